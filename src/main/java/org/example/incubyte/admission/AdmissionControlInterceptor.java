@@ -0,0 +1,118 @@
+package org.example.incubyte.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.incubyte.exception.ConcurrencyLimitExceededException;
+import org.example.incubyte.exception.RateLimitExceededException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the user API handlers. Every request first spends a token from
+ * its client's bucket (429 when empty), then handlers marked {@link ConcurrencyLimited} take a
+ * permit of their {@link EndpointClass} (503 when all are in use). Rejections are thrown as
+ * exceptions so {@code GlobalExceptionHandler} writes them like any other error.
+ * <p>
+ * The client is the remote address. Only when a {@code clientHeader} is configured, which is
+ * safe only behind a proxy that sets or strips that header itself, is its value used instead:
+ * otherwise any caller could pick a fresh client id, and a fresh bucket, on every request.
+ * Decisions are counted in {@code users.admission.requests}, tagged by limiter, endpoint class
+ * and outcome; {@code users.admission.in-flight} gauges the permits in use per class.
+ * <p>
+ * An async handler ({@code /export}, {@code /changes}, ...) is admitted once: the re-dispatch
+ * that completes it passes through without spending another token, and a permit taken on the
+ * first dispatch is held until that re-dispatch completes.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private record Limit(ConcurrencyLimiter limiter, Counter admitted, Counter rejected) {
+    }
+
+    private final ClientRateLimiter rateLimiter;
+    private final String clientHeader;
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Counter rateAdmitted;
+    private final Counter rateRejected;
+
+    public AdmissionControlInterceptor(ClientRateLimiter rateLimiter,
+                                       Map<EndpointClass, Integer> concurrencyLimits,
+                                       String clientHeader,
+                                       MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.rateAdmitted = decisions(meterRegistry, "rate", "all", "admitted");
+        this.rateRejected = decisions(meterRegistry, "rate", "all", "rejected");
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(concurrencyLimits.get(endpointClass));
+            Gauge.builder("users.admission.in-flight", limiter, ConcurrencyLimiter::inFlight)
+                    .description("Requests holding a concurrency permit")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            limits.put(endpointClass, new Limit(limiter,
+                    decisions(meterRegistry, "concurrency", tag, "admitted"),
+                    decisions(meterRegistry, "concurrency", tag, "rejected")));
+        }
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String limiter, String endpointClass, String outcome) {
+        return Counter.builder("users.admission.requests")
+                .description("Admission control decisions")
+                .tag("limiter", limiter)
+                .tag("class", endpointClass)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(clientId(request));
+        if (waitNanos > 0) {
+            rateRejected.increment();
+            throw new RateLimitExceededException("Rate limit exceeded, retry later",
+                    Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+        rateAdmitted.increment();
+
+        ConcurrencyLimited annotation = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (annotation == null) {
+            return true;
+        }
+        Limit limit = limits.get(annotation.value());
+        if (!limit.limiter().tryAcquire()) {
+            limit.rejected().increment();
+            throw new ConcurrencyLimitExceededException(
+                    "Too many concurrent " + annotation.value().name().toLowerCase(Locale.ROOT) + " requests, retry later");
+        }
+        limit.admitted().increment();
+        request.setAttribute(PERMIT, limit.limiter());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT) instanceof ConcurrencyLimiter limiter) {
+            request.removeAttribute(PERMIT);
+            limiter.release();
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String client = clientHeader == null ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.incubyte.admission;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets over a fixed array of lock-free stripes.
+ * <p>
+ * Each bucket is a single {@code long}, the theoretical arrival time of the client's next
+ * request (the GCRA form of a token bucket): a request is admitted while that time is at most
+ * {@code burst - 1} intervals ahead of now, and admitting it moves the time one interval on.
+ * A compare-and-set on that one word is the whole update, so there are no locks and no
+ * per-client allocation. Clients are hashed onto the stripes; two clients on the same stripe
+ * share a budget, which the stripe count keeps rare. Buckets sit a cache line apart so hot
+ * clients do not contend through false sharing.
+ */
+public class ClientRateLimiter {
+
+    private static final int STRIDE = 8;
+
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier clock;
+    private final long origin;
+
+    public ClientRateLimiter(double requestsPerSecond, int burst, int stripes) {
+        this(requestsPerSecond, burst, stripes, System::nanoTime);
+    }
+
+    ClientRateLimiter(double requestsPerSecond, int burst, int stripes, LongSupplier clock) {
+        if (requestsPerSecond <= 0 || burst < 1 || stripes < 1) {
+            throw new IllegalArgumentException("Rate, burst and stripes must be positive");
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = Math.max(size, 1) - 1;
+        this.arrivals = new AtomicLongArray((mask + 1) * STRIDE);
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / requestsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.clock = clock;
+        // Timestamps are kept relative to construction, so an empty bucket (0) is always in the past.
+        this.origin = clock.getAsLong() - 1;
+    }
+
+    /**
+     * Takes a token for {@code clientId}. Returns {@code 0} if the request is admitted, otherwise
+     * the nanoseconds until this client's next token.
+     */
+    public long tryAcquire(String clientId) {
+        int slot = stripe(clientId) * STRIDE;
+        while (true) {
+            long now = clock.getAsLong() - origin;
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now);
+            long wait = next - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(slot, arrival, next + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private int stripe(String clientId) {
+        int h = clientId.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
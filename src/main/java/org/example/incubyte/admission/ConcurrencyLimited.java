@@ -0,0 +1,17 @@
+package org.example.incubyte.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a handler method under the in-flight limit of its {@link EndpointClass}. Only for
+ * handlers that complete on the request thread: the permit is released in
+ * {@code afterCompletion}, which async and streaming handlers reach only after their last dispatch.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+    EndpointClass value();
+}
@@ -0,0 +1,43 @@
+package org.example.incubyte.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking in-flight limit: {@link #tryAcquire()} fails fast instead of queueing, so
+ * excess load is shed before it holds a thread or a connection.
+ */
+public class ConcurrencyLimiter {
+
+    private final int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimiter(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        this.limit = limit;
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.incubyte.admission;
+
+/**
+ * Cost classes for concurrency limiting; each class has its own in-flight limit, so a flood
+ * of heavy calls cannot take the capacity reserved for cheap ones.
+ */
+public enum EndpointClass {
+    /** Page, list and search reads that touch many rows. */
+    LIST,
+    /** Single-row and in-memory reads. */
+    LOOKUP
+}
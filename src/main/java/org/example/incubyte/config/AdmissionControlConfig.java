@@ -0,0 +1,43 @@
+package org.example.incubyte.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.incubyte.admission.AdmissionControlInterceptor;
+import org.example.incubyte.admission.ClientRateLimiter;
+import org.example.incubyte.admission.EndpointClass;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+/**
+ * Registers {@link AdmissionControlInterceptor} on the servlet user API; see
+ * {@code users.admission.*} for the limits. Disabled with {@code users.admission.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "users.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor interceptor;
+
+    public AdmissionControlConfig(MeterRegistry meterRegistry,
+                                  @Value("${users.admission.client-header:}") String clientHeader,
+                                  @Value("${users.admission.rate-limit.requests-per-second:200}") double requestsPerSecond,
+                                  @Value("${users.admission.rate-limit.burst:400}") int burst,
+                                  @Value("${users.admission.rate-limit.stripes:4096}") int stripes,
+                                  @Value("${users.admission.concurrency.list:16}") int listLimit,
+                                  @Value("${users.admission.concurrency.lookup:256}") int lookupLimit) {
+        this.interceptor = new AdmissionControlInterceptor(
+                new ClientRateLimiter(requestsPerSecond, burst, stripes),
+                Map.of(EndpointClass.LIST, listLimit, EndpointClass.LOOKUP, lookupLimit),
+                clientHeader,
+                meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
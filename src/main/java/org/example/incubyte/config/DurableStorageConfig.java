@@ -0,0 +1,44 @@
+package org.example.incubyte.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.incubyte.service.UserSearchService;
+import org.example.incubyte.service.UserStatsService;
+import org.example.incubyte.snapshot.UserSnapshotStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+/**
+ * Wiring for the {@code durable} profile: users live in a file-backed H2 database, and a
+ * {@link UserSnapshotStore} at {@code users.snapshot.path} seeds a node whose database is
+ * still empty and is rewritten on shutdown.
+ */
+@Configuration
+@Profile("durable")
+public class DurableStorageConfig {
+
+    /**
+     * Depends on the EntityManagerFactory so the schema exists before rows are restored, and on
+     * the in-memory views of the table so they can be reloaded afterwards. Runs before the web
+     * server accepts requests.
+     */
+    @Bean
+    public UserSnapshotStore userSnapshotStore(DataSource dataSource,
+                                               EntityManagerFactory entityManagerFactory,
+                                               UserStatsService userStatsService,
+                                               UserSearchService userSearchService,
+                                               @Value("${users.snapshot.path}") Path path,
+                                               @Value("${users.snapshot.restore-on-startup:true}") boolean restoreOnStartup,
+                                               @Value("${users.snapshot.write-on-shutdown:true}") boolean writeOnShutdown) {
+        UserSnapshotStore store = new UserSnapshotStore(dataSource, path, writeOnShutdown);
+        if (restoreOnStartup && store.restoreIfEmpty() > 0) {
+            userStatsService.reload();
+            userSearchService.reload();
+        }
+        return store;
+    }
+}
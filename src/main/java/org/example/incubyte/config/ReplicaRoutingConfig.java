@@ -0,0 +1,101 @@
+package org.example.incubyte.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.incubyte.datasource.ReadWriteRoutingDataSource;
+import org.example.incubyte.datasource.ReadYourWritesFilter;
+import org.example.incubyte.datasource.ReplicaSynchronizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Wiring for the {@code replica} profile.
+ * <p>
+ * Read-only transactions go to {@code users.replica.count} replica pools and writes to the
+ * primary. Each replica is a private in-memory H2 kept in step by {@link ReplicaSynchronizer},
+ * {@code users.replica.lag} behind the primary. Clients that wrote within
+ * {@code users.replica.read-your-writes-window} keep reading from the primary.
+ */
+@Configuration
+@Profile("replica")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaRoutingConfig {
+
+    /** The physical pools behind the routing data source; closed with the context. */
+    public record ReplicaPools(HikariDataSource primary, List<HikariDataSource> replicas) implements AutoCloseable {
+        @Override
+        public void close() {
+            primary.close();
+            replicas.forEach(HikariDataSource::close);
+        }
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceProperties properties,
+                                     @Value("${users.replica.count:1}") int replicaCount) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        List<HikariDataSource> replicas = new ArrayList<>(replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            replicas.add(properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url("jdbc:h2:mem:" + ReadWriteRoutingDataSource.replica(i) + "-" + UUID.randomUUID()
+                            + ";DB_CLOSE_DELAY=-1")
+                    .build());
+        }
+        return new ReplicaPools(primary, replicas);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(ReplicaPools pools) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, pools.primary());
+        for (int i = 0; i < pools.replicas().size(); i++) {
+            targets.put(ReadWriteRoutingDataSource.replica(i), pools.replicas().get(i));
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(pools.replicas().size());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(pools.primary());
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Depends on the EntityManagerFactory so the primary schema exists before it is copied;
+     * reads are routed to the replicas only once they hold that copy.
+     */
+    @Bean
+    public ReplicaSynchronizer replicaSynchronizer(ReplicaPools pools,
+                                                   ReadWriteRoutingDataSource routingDataSource,
+                                                   EntityManagerFactory entityManagerFactory,
+                                                   @Value("${users.replica.lag:0ms}") Duration lag) {
+        ReplicaSynchronizer synchronizer = new ReplicaSynchronizer(pools.primary(), pools.replicas(), lag);
+        synchronizer.seed();
+        routingDataSource.setReplicasReady(true);
+        return synchronizer;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${users.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+}
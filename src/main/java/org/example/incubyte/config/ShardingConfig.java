@@ -0,0 +1,93 @@
+package org.example.incubyte.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserCache;
+import org.example.incubyte.service.UserSearchService;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserStatsService;
+import org.example.incubyte.sharding.ShardedUserRepository;
+import org.example.incubyte.sharding.ShardedUserSearchService;
+import org.example.incubyte.sharding.ShardedUserService;
+import org.example.incubyte.sharding.ShardedUserStatsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wiring for the {@code sharded} profile: {@code users.sharding.count} shard databases plus a
+ * directory database, addressed through {@code users.sharding.url-template} (the shard index,
+ * or {@code directory}, is substituted for {@code %s}). {@link ShardedUserService} replaces
+ * {@link UserService} wherever it is injected, and the stats counters and the search index
+ * load from the shards. The bulk and write-behind services are not registered, so their
+ * endpoints answer 501.
+ */
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+
+    /** The directory and shard pools; closed with the context. */
+    public record ShardPools(HikariDataSource directory, List<HikariDataSource> shards) implements AutoCloseable {
+        @Override
+        public void close() {
+            directory.close();
+            shards.forEach(HikariDataSource::close);
+        }
+    }
+
+    @Bean
+    public ShardPools shardPools(@Value("${users.sharding.count:4}") int shardCount,
+                                 @Value("${users.sharding.url-template}") String urlTemplate,
+                                 @Value("${spring.datasource.username}") String username,
+                                 @Value("${spring.datasource.password}") String password) {
+        List<HikariDataSource> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(pool(String.format(urlTemplate, i), username, password));
+        }
+        return new ShardPools(pool(String.format(urlTemplate, "directory"), username, password), shards);
+    }
+
+    @Bean
+    public ShardedUserRepository shardedUserRepository(ShardPools pools) {
+        ShardedUserRepository repository = new ShardedUserRepository(pools.directory(), pools.shards());
+        repository.initSchema();
+        return repository;
+    }
+
+    @Bean
+    @Primary
+    public UserService shardedUserService(ShardedUserRepository shardedUserRepository,
+                                          UserRepository userRepository,
+                                          ApplicationEventPublisher eventPublisher,
+                                          UserCache userCache) {
+        return new ShardedUserService(shardedUserRepository, userRepository, eventPublisher, userCache);
+    }
+
+    @Bean
+    public UserStatsService shardedUserStatsService(ShardedUserRepository shardedUserRepository,
+                                                    UserRepository userRepository) {
+        return new ShardedUserStatsService(shardedUserRepository, userRepository);
+    }
+
+    @Bean
+    public UserSearchService shardedUserSearchService(ShardedUserRepository shardedUserRepository,
+                                                      UserRepository userRepository) {
+        return new ShardedUserSearchService(shardedUserRepository, userRepository);
+    }
+
+    private static HikariDataSource pool(String url, String username, String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+}
@@ -1,40 +1,204 @@
 package org.example.incubyte.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.example.incubyte.admission.ConcurrencyLimited;
+import org.example.incubyte.admission.EndpointClass;
+import org.example.incubyte.dto.AsyncCreateStatusDTO;
+import org.example.incubyte.dto.BulkActiveRequestDTO;
+import org.example.incubyte.dto.BulkActiveResponseDTO;
+import org.example.incubyte.dto.BulkCreateRequestDTO;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.BulkDeleteResponseDTO;
 import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserPatchDTO;
+import org.example.incubyte.dto.UserStatsDTO;
+import org.example.incubyte.exception.EndpointUnavailableException;
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.service.UserChangeFeed;
+import org.example.incubyte.service.UserSearchService;
 import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserStatsService;
+import org.example.incubyte.service.UserWriteBehindService;
+import org.example.incubyte.service.UserVersions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class UserController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    /** A full-table export can outlive the container's default async timeout, which other handlers keep. */
+    private static final Duration EXPORT_TIMEOUT = Duration.ofHours(1);
+
     private final UserService userService;
+    // Absent under the sharded profile; their endpoints then answer 501.
+    private final ObjectProvider<UserBulkService> userBulkService;
+    private final UserStatsService userStatsService;
+    private final UserSearchService userSearchService;
+    private final UserChangeFeed userChangeFeed;
+    private final ObjectProvider<UserWriteBehindService> userWriteBehindService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody UserDTO userDTO) {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(userDTO));
     }
 
+    // Write-behind create: 202 with a tracking id once queued, or 201 when the queue was full
+    // and the create ran synchronously.
+    @PostMapping("/async")
+    public ResponseEntity<AsyncCreateStatusDTO> createUserAsync(@Valid @RequestBody UserDTO userDTO) {
+        AsyncCreateStatusDTO status = available(userWriteBehindService).submit(userDTO);
+        if (status.getStatus() != AsyncCreateStatusDTO.Status.PENDING) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(status);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/users/async/" + status.getTrackingId()))
+                .body(status);
+    }
+
+    @GetMapping("/async/{trackingId}")
+    public ResponseEntity<AsyncCreateStatusDTO> getAsyncCreateStatus(@PathVariable String trackingId,
+                                                                     @RequestParam(defaultValue = "0") long waitMillis) {
+        return available(userWriteBehindService).getStatus(trackingId, Duration.ofMillis(Math.min(Math.max(waitMillis, 0), 30_000)))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponseDTO> createUsers(@Valid @RequestBody BulkCreateRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(available(userBulkService).createUsers(request.getUsers()));
+    }
+
+    @PostMapping("/bulk/active")
+    public ResponseEntity<BulkActiveResponseDTO> updateActive(@Valid @RequestBody BulkActiveRequestDTO request) {
+        UserBulkService bulkService = available(userBulkService);
+        return ResponseEntity.ok(request.getIds() != null
+                ? bulkService.updateActive(request.getIds(), request.getActive())
+                : bulkService.updateActiveCreatedBefore(request.getCreatedBefore(), request.getActive()));
+    }
+
+    // Conditional GETs: when the client sends If-None-Match, a version lookup decides between
+    // 304 and a full read, so unchanged resources are never loaded, mapped or serialized.
+
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    @ConcurrencyLimited(EndpointClass.LOOKUP)
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id, WebRequest request) {
+        if (hasIfNoneMatch(request) && request.checkNotModified(userETag(id, userService.getUserVersion(id)))) {
+            return null;
+        }
+        UserDTO user = userService.getUserById(id);
+        return ResponseEntity.ok()
+                .eTag(userETag(user.getId(), user.getUpdatedAt()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(user);
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    @ConcurrencyLimited(EndpointClass.LIST)
+    public ResponseEntity<UserPageDTO> getAllUsers(@RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = UserService.DEFAULT_PAGE_SIZE_PARAM) int limit,
+                                                   WebRequest request) {
+        if (hasIfNoneMatch(request) && request.checkNotModified(pageETag(userService.getUsersPageVersion(after, limit)))) {
+            return null;
+        }
+        UserPageDTO page = userService.getUsersPage(after, limit);
+        return ResponseEntity.ok()
+                .eTag(pageETag(UserVersions.pageVersion(page)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page);
     }
 
     @GetMapping("/active/list")
-    public ResponseEntity<List<UserDTO>> getActiveUsers() {
-        return ResponseEntity.ok(userService.getActiveUsers());
+    @ConcurrencyLimited(EndpointClass.LIST)
+    public ResponseEntity<UserPageDTO> getActiveUsers(@RequestParam(required = false) String after,
+                                                      @RequestParam(defaultValue = UserService.DEFAULT_PAGE_SIZE_PARAM) int limit,
+                                                      WebRequest request) {
+        if (hasIfNoneMatch(request)
+                && request.checkNotModified(pageETag(userService.getActiveUsersPageVersion(after, limit)))) {
+            return null;
+        }
+        UserPageDTO page = userService.getActiveUsersPage(after, limit);
+        return ResponseEntity.ok()
+                .eTag(pageETag(UserVersions.pageVersion(page)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page);
+    }
+
+    @GetMapping("/search")
+    @ConcurrencyLimited(EndpointClass.LIST)
+    public ResponseEntity<UserPageDTO> searchUsers(@RequestParam String q,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = UserService.DEFAULT_PAGE_SIZE_PARAM) int limit) {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(userSearchService.search(q, after, limit));
+    }
+
+    @GetMapping("/stats")
+    @ConcurrencyLimited(EndpointClass.LOOKUP)
+    public ResponseEntity<UserStatsDTO> getStats() {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(userStatsService.getStats());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportUsers(HttpServletResponse response) {
+        ObjectWriter writer = objectMapper.writerFor(UserDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                userService.exportUsers(user -> {
+                    try {
+                        writer.writeValue(generator, user);
+                        generator.writeRaw('\n');
+                        // Flush the first row immediately, then in batches.
+                        if (written[0]++ % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+            return null;
+        });
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userChangeFeed.subscribe(lastEventId);
     }
 
     @PutMapping("/{id}")
@@ -42,9 +206,43 @@ public class UserController {
         return ResponseEntity.ok(userService.updateUser(id, userDTO));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<UserDTO> patchUser(@PathVariable Long id, @Valid @RequestBody UserPatchDTO patch) {
+        return ResponseEntity.ok(userService.patchUser(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResponseDTO> deleteUsers(
+            @RequestParam @Size(max = UserBulkService.MAX_DELETE_IDS,
+                    message = "At most " + UserBulkService.MAX_DELETE_IDS + " ids per request") List<Long> ids) {
+        return ResponseEntity.ok(available(userBulkService).deleteUsers(ids));
+    }
+
+    private static <T> T available(ObjectProvider<T> service) {
+        T instance = service.getIfAvailable();
+        if (instance == null) {
+            throw new EndpointUnavailableException("This endpoint is not available with the configured user store");
+        }
+        return instance;
+    }
+
+    private static boolean hasIfNoneMatch(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    // Weak: one user revision is served as JSON, CBOR or Smile, so the tag names the revision, not the bytes.
+    private static String userETag(Long id, Long updatedAt) {
+        return "W/\"" + id + "-" + updatedAt + "\"";
+    }
+
+    // Weak: a hash over the page's (id, updatedAt) pairs, not over the serialized bytes.
+    private static String pageETag(long version) {
+        return "W/\"" + Long.toHexString(version) + "\"";
+    }
+}
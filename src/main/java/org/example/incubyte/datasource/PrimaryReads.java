@@ -0,0 +1,42 @@
+package org.example.incubyte.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that keeps read-only transactions on the primary, for callers that
+ * must see their own recent writes.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryReads() {
+    }
+
+    public static void force() {
+        FORCED.set(true);
+    }
+
+    public static void clear() {
+        FORCED.remove();
+    }
+
+    public static boolean isForced() {
+        return FORCED.get();
+    }
+
+    /**
+     * Runs {@code action} with primary reads forced, leaving the flag as it was afterwards.
+     */
+    public static <T> T during(Supplier<T> action) {
+        if (isForced()) {
+            return action.get();
+        }
+        force();
+        try {
+            return action.get();
+        } finally {
+            clear();
+        }
+    }
+}
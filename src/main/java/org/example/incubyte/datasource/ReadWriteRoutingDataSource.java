@@ -0,0 +1,44 @@
+package org.example.incubyte.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas, round robin, and everything else to the
+ * primary. Reads stay on the primary until the replicas report in sync, and while
+ * {@link PrimaryReads} is forced for the current thread.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag of a transaction
+ * is only known after it has begun, so the physical connection has to be fetched lazily.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final int replicaCount;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean replicasReady;
+
+    public ReadWriteRoutingDataSource(int replicaCount) {
+        this.replicaCount = replicaCount;
+    }
+
+    public static String replica(int index) {
+        return "replica-" + index;
+    }
+
+    public void setReplicasReady(boolean replicasReady) {
+        this.replicasReady = replicasReady;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0 || !replicasReady || PrimaryReads.isForced()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replica(Math.floorMod(next.getAndIncrement(), replicaCount));
+    }
+}
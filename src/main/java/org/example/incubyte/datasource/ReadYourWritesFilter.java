@@ -0,0 +1,75 @@
+package org.example.incubyte.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for replica routing. A successful write stamps the client with a cookie
+ * holding its time; reads that carry a stamp younger than the window are served from the
+ * primary, so a client never reads a replica that may not have its own write yet.
+ * <p>
+ * The stamp travels with the client rather than living in server memory, so it holds across
+ * application instances. The cookie is set before the handler runs, because a committed
+ * response can no longer take headers.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "users-last-write";
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(now))
+                    .path("/")
+                    .httpOnly(true)
+                    .maxAge(window)
+                    .build()
+                    .toString());
+        } else if (now - lastWrite(request) < window.toMillis()) {
+            PrimaryReads.force();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryReads.clear();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException ex) {
+                        return 0L;
+                    }
+                }
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.incubyte.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.incubyte.event.UserChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps local H2 databases in step with the primary so they can stand in for read replicas.
+ * <p>
+ * {@link #seed()} copies schema, sequences and rows with H2's {@code SCRIPT}. Afterwards every
+ * committed {@link UserChangedEvent} re-reads the user's row from the primary and applies it to
+ * each replica after {@code lag}, which models asynchronous replication delay. Changes are
+ * applied in commit order by a single thread.
+ */
+@Slf4j
+public class ReplicaSynchronizer implements DisposableBean {
+
+    private static final String UPSERT = "merge into users (id, name, email, phone, active, created_at, updated_at) "
+            + "key (id) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    private final Duration lag;
+    private final ScheduledExecutorService applier = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("replica-sync").daemon().unstarted(runnable));
+
+    public ReplicaSynchronizer(DataSource primary, List<? extends DataSource> replicas, Duration lag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.stream().map(JdbcTemplate::new).toList();
+        this.lag = lag;
+    }
+
+    /**
+     * Copies the primary into every replica. Call once the primary schema exists and before
+     * reads are routed to the replicas.
+     */
+    public void seed() {
+        List<String> script = primary.queryForList("script", String.class);
+        for (JdbcTemplate replica : replicas) {
+            script.forEach(replica::execute);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Long id = event.getUserId();
+        applier.schedule(() -> apply(id), lag.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void apply(Long id) {
+        try {
+            List<Map<String, Object>> rows = primary.queryForList(
+                    "select id, name, email, phone, active, created_at, updated_at from users where id = ?", id);
+            for (JdbcTemplate replica : replicas) {
+                if (rows.isEmpty()) {
+                    replica.update("delete from users where id = ?", id);
+                } else {
+                    Map<String, Object> row = rows.get(0);
+                    replica.update(UPSERT, row.get("ID"), row.get("NAME"), row.get("EMAIL"), row.get("PHONE"),
+                            row.get("ACTIVE"), row.get("CREATED_AT"), row.get("UPDATED_AT"));
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not replicate user {}", id, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        applier.shutdownNow();
+    }
+}
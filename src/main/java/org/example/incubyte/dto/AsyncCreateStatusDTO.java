@@ -0,0 +1,28 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of a create accepted by {@code POST /api/v1/users/async}. {@code user} is set once
+ * the create has committed; {@code error} explains the terminal failure states.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AsyncCreateStatusDTO {
+    private String trackingId;
+    private Status status;
+    private UserDTO user;
+    private String error;
+
+    public enum Status {
+        PENDING,
+        CREATED,
+        DUPLICATE_EMAIL,
+        FAILED
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.incubyte.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sets {@code active} on a cohort of users, chosen either by {@code ids} or by
+ * {@code createdBefore} (epoch millis, exclusive) — exactly one of the two.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkActiveRequestDTO {
+    public static final int MAX_IDS = 1000;
+
+    @NotNull(message = "Active is required")
+    private Boolean active;
+
+    // Optional, so @Size rather than @NotEmpty: when present it must list 1..MAX_IDS ids
+    @Size(min = 1, max = MAX_IDS, message = "Between 1 and " + MAX_IDS + " ids per request")
+    private List<@NotNull Long> ids;
+
+    private Long createdBefore;
+
+    @JsonIgnore
+    @AssertTrue(message = "Exactly one of ids or createdBefore is required")
+    public boolean isSelectorValid() {
+        return (ids == null) != (createdBefore == null);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk activate/deactivate. Users that already had the requested flag are not counted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkActiveResponseDTO {
+    private int updated;
+}
@@ -0,0 +1,37 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create. {@code results} is in request order, one entry per submitted user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateResponseDTO {
+    private int created;
+    private int failed;
+    private List<Result> results;
+
+    public enum Status {
+        CREATED,
+        DUPLICATE_EMAIL
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private int index;
+        private Status status;
+        private UserDTO user;
+        private String error;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk delete. {@code missingIds} lists requested ids that matched no user, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDeleteResponseDTO {
+    private int deleted;
+    private List<Long> missingIds;
+}
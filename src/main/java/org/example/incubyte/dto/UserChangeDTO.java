@@ -0,0 +1,25 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.incubyte.event.UserChangedEvent;
+
+/**
+ * One entry of the user change feed. Its SSE event id is {@code <epoch>-<sequence>}, which
+ * clients send back as {@code Last-Event-ID} to resume.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserChangeDTO {
+    private long sequence;
+    private UserChangedEvent.Type type;
+    private Long userId;
+    /** State after the change; {@code null} for deletes and active-flag-only updates. */
+    private UserDTO user;
+    /** Active flag after the change; {@code null} for deletes. */
+    private Boolean active;
+}
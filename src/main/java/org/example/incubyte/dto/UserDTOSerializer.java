@@ -0,0 +1,60 @@
+package org.example.incubyte.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link UserDTO} field by field with pre-encoded names, in place of Jackson's
+ * reflective bean serializer. The output matches the default one (same order, nulls included).
+ * Registered with every Boot-built mapper (JSON, CBOR, Smile) through {@link JsonComponent}.
+ */
+@JsonComponent
+public class UserDTOSerializer extends StdSerializer<UserDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PHONE = new SerializedString("phone");
+    private static final SerializedString ACTIVE = new SerializedString("active");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    public UserDTOSerializer() {
+        super(UserDTO.class);
+    }
+
+    @Override
+    public void serialize(UserDTO user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user, 7);
+        writeNumber(gen, ID, user.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(user.getName());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(user.getEmail());
+        gen.writeFieldName(PHONE);
+        gen.writeString(user.getPhone());
+        gen.writeFieldName(ACTIVE);
+        if (user.getActive() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(user.getActive());
+        }
+        writeNumber(gen, CREATED_AT, user.getCreatedAt());
+        writeNumber(gen, UPDATED_AT, user.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of users. {@code nextCursor} is opaque to clients and is
+ * {@code null} once the last page has been returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPageDTO {
+    private List<UserDTO> items;
+    private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package org.example.incubyte.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of {@code PATCH /api/v1/users/{id}}. Every field is optional and a missing one keeps
+ * its value, but a field that is sent must be valid: blank strings are rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPatchDTO {
+    private static final String NOT_BLANK = ".*\\S.*";
+
+    @Pattern(regexp = NOT_BLANK, message = "Name must not be blank")
+    private String name;
+
+    @Email(message = "Email should be valid")
+    @Pattern(regexp = NOT_BLANK, message = "Email must not be blank")
+    private String email;
+
+    @Pattern(regexp = NOT_BLANK, message = "Phone must not be blank")
+    private String phone;
+
+    private Boolean active;
+}
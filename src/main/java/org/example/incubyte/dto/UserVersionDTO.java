@@ -0,0 +1,17 @@
+package org.example.incubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The (id, updatedAt) pair that identifies one revision of a user; enough to answer
+ * conditional requests without loading or serializing the full row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserVersionDTO {
+    private Long id;
+    private Long updatedAt;
+}
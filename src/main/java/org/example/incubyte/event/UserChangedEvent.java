@@ -0,0 +1,48 @@
+package org.example.incubyte.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.example.incubyte.dto.UserDTO;
+
+/**
+ * Published by the service layer for every committed user mutation. Listeners that
+ * maintain derived state (counters, indexes, feeds) should consume it after commit.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    /** State after the change; {@code null} for deletes and for updates that only know the active flag. */
+    private final UserDTO user;
+    /** Active flag after the change; {@code null} for deletes. */
+    private final Boolean active;
+    /** Active flag before the change; {@code null} for creates. */
+    private final Boolean previousActive;
+
+    public static UserChangedEvent created(UserDTO user) {
+        return new UserChangedEvent(Type.CREATED, user.getId(), user, user.getActive(), null);
+    }
+
+    public static UserChangedEvent updated(UserDTO user, Boolean previousActive) {
+        return new UserChangedEvent(Type.UPDATED, user.getId(), user, user.getActive(), previousActive);
+    }
+
+    public static UserChangedEvent activeChanged(Long userId, Boolean active, Boolean previousActive) {
+        return new UserChangedEvent(Type.UPDATED, userId, null, active, previousActive);
+    }
+
+    public static UserChangedEvent deleted(Long userId, Boolean previousActive) {
+        return new UserChangedEvent(Type.DELETED, userId, null, null, previousActive);
+    }
+}
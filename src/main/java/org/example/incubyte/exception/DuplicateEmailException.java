@@ -1,7 +1,21 @@
 package org.example.incubyte.exception;
 
+import org.example.incubyte.entity.User;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
 public class DuplicateEmailException extends RuntimeException {
     public DuplicateEmailException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    /**
+     * Whether {@code ex} was raised by the unique constraint on the email column, as opposed to
+     * any other integrity failure (a NOT NULL column, a too-long value, ...).
+     */
+    public static boolean isCause(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.incubyte.exception;
+
+public class EndpointUnavailableException extends RuntimeException {
+    public EndpointUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.incubyte.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,118 @@
 package org.example.incubyte.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserVersionDTO;
 import org.example.incubyte.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Constructor-expression projection: rows become UserDTOs directly, with no managed entity.
+    // Arguments bind by position to UserDTO's field order; UserRepositoryProjectionTests pins it.
+    String SELECT_USER_DTO = "select new org.example.incubyte.dto.UserDTO("
+            + "u.id, u.name, u.email, u.phone, u.active, u.createdAt, u.updatedAt) from User u";
+    String SELECT_USER_VERSION = "select new org.example.incubyte.dto.UserVersionDTO(u.id, u.updatedAt) from User u";
+
     Optional<User> findByEmail(String email);
     List<User> findByActive(Boolean active);
-}
\ No newline at end of file
+    long countByActive(Boolean active);
+
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    @Query(SELECT_USER_DTO + " where u.id = :id")
+    Optional<UserDTO> findDtoById(Long id);
+
+    @Query(SELECT_USER_DTO + " order by u.id")
+    List<UserDTO> findAllDtos();
+
+    @Query(SELECT_USER_DTO + " where u.active = :active order by u.id")
+    List<UserDTO> findDtosByActive(Boolean active);
+
+    // Keyset (seek) queries on the primary key: cost depends on the page size, not the offset.
+    @Query(SELECT_USER_DTO + " where u.id > :id order by u.id")
+    List<UserDTO> findDtosByIdGreaterThan(Long id, Limit limit);
+
+    @Query(SELECT_USER_DTO + " where u.active = :active and u.id > :id order by u.id")
+    List<UserDTO> findDtosByActiveAndIdGreaterThan(Boolean active, Long id, Limit limit);
+
+    // Version lookups for conditional GETs: no entity, no DTO mapping, only the revision columns.
+    @Query("select u.updatedAt from User u where u.id = :id")
+    Optional<Long> findUpdatedAtById(Long id);
+
+    @Query(SELECT_USER_VERSION + " where u.id > :id order by u.id")
+    List<UserVersionDTO> findVersionsByIdGreaterThan(Long id, Limit limit);
+
+    @Query(SELECT_USER_VERSION + " where u.active = :active and u.id > :id order by u.id")
+    List<UserVersionDTO> findVersionsByActiveAndIdGreaterThan(Boolean active, Long id, Limit limit);
+
+    // Flips the flag only if it differs. Returns 1 when this statement changed it, which the
+    // counters need: reading the flag first and writing it later can miss a concurrent flip.
+    @Modifying
+    @Query("update User u set u.active = :active, u.updatedAt = :updatedAt where u.id = :id and u.active <> :active")
+    int updateActiveById(Long id, Boolean active, Long updatedAt);
+
+    // Single-statement partial update: null arguments keep the current column value. Bypasses
+    // @PreUpdate, so the caller supplies updatedAt. Returns the affected row count.
+    @Modifying
+    @Query("update User u set u.name = coalesce(:name, u.name), u.email = coalesce(:email, u.email), "
+            + "u.phone = coalesce(:phone, u.phone), u.active = coalesce(:active, u.active), "
+            + "u.updatedAt = :updatedAt where u.id = :id")
+    int patchById(Long id, String name, String email, String phone, Boolean active, Long updatedAt);
+
+    @Query(SELECT_USER_DTO + " where u.id in :ids")
+    List<UserDTO> findDtosByIdIn(Collection<Long> ids);
+
+    // Same projection under SELECT ... FOR UPDATE, for callers that must act on exactly these rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(SELECT_USER_DTO + " where u.id in :ids")
+    List<UserDTO> lockDtosByIdIn(Collection<Long> ids);
+
+    // Deletes as single statements; unlike deleteById, nothing is loaded first.
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int deleteRowById(Long id);
+
+    @Modifying
+    @Query("delete from User u where u.id = :id and u.active = :active")
+    int deleteRowByIdAndActive(Long id, Boolean active);
+
+    @Modifying
+    @Query("delete from User u where u.id in :ids")
+    int deleteRowsByIdIn(Collection<Long> ids);
+
+    // Set-based active flips: the selects find and lock the users whose flag would change, the
+    // update only touches those and bumps updatedAt itself, since bulk updates bypass @PreUpdate.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id from User u where u.id in :ids and u.active <> :active")
+    List<Long> findIdsByIdInAndActiveNot(Collection<Long> ids, Boolean active);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id from User u where u.createdAt < :createdBefore and u.active <> :active and u.id > :id order by u.id")
+    List<Long> findIdsByCreatedAtBeforeAndActiveNot(Long createdBefore, Boolean active, Long id, Limit limit);
+
+    @Modifying
+    @Query("update User u set u.active = :active, u.updatedAt = :updatedAt where u.id in :ids and u.active <> :active")
+    int updateActiveByIdIn(Collection<Long> ids, Boolean active, Long updatedAt);
+
+    // Cursor-backed stream for full-table export; must be consumed inside a transaction and closed.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_USER_DTO + " order by u.id")
+    Stream<UserDTO> streamAllDtos();
+}
@@ -0,0 +1,221 @@
+package org.example.incubyte.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.BulkActiveResponseDTO;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.BulkCreateResponseDTO.Result;
+import org.example.incubyte.dto.BulkCreateResponseDTO.Status;
+import org.example.incubyte.dto.BulkDeleteResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.entity.User;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based variants of the {@link UserService} write paths, for callers that
+ * move users in large groups. Not registered under the {@code sharded} profile,
+ * whose store has no set-based writes.
+ */
+@Service
+@Profile("!sharded")
+@RequiredArgsConstructor
+@Transactional
+@Timed(value = "users.service", description = "User service method latency")
+public class UserBulkService {
+
+    /** Ids per IN-clause or keyset page; keeps statements and their bind lists bounded for large requests. */
+    public static final int CHUNK_SIZE = 500;
+    /** Most ids one bulk delete request may list. */
+    public static final int MAX_DELETE_IDS = 1000;
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Creates all users whose email is not already taken, in a single transaction.
+     * Existing emails are resolved with one IN query; within the request the first
+     * occurrence of an email wins. Inserts are flushed as JDBC batches.
+     * <p>
+     * A concurrent create can take an email between the check and the insert. The unique
+     * constraint then rolls the attempt back, and the next attempt re-resolves the taken
+     * emails, so the raced item is reported as a duplicate instead of failing the batch.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateResponseDTO createUsers(List<UserDTO> userDTOs) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> insertNewUsers(userDTOs));
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt == MAX_CREATE_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private BulkCreateResponseDTO insertNewUsers(List<UserDTO> userDTOs) {
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(
+                userDTOs.stream().map(UserDTO::getEmail).collect(Collectors.toSet())));
+
+        Result[] results = new Result[userDTOs.size()];
+        List<User> toInsert = new ArrayList<>(userDTOs.size());
+        List<Integer> insertIndexes = new ArrayList<>(userDTOs.size());
+
+        for (int i = 0; i < userDTOs.size(); i++) {
+            UserDTO userDTO = userDTOs.get(i);
+            if (!takenEmails.add(userDTO.getEmail())) {
+                results[i] = Result.builder()
+                        .index(i)
+                        .status(Status.DUPLICATE_EMAIL)
+                        .error("Email already exists: " + userDTO.getEmail())
+                        .build();
+                continue;
+            }
+            toInsert.add(User.builder()
+                    .name(userDTO.getName())
+                    .email(userDTO.getEmail())
+                    .phone(userDTO.getPhone())
+                    .active(true)
+                    .build());
+            insertIndexes.add(i);
+        }
+
+        // Flushing here surfaces a lost email race inside this attempt rather than at commit.
+        List<User> savedUsers = userRepository.saveAllAndFlush(toInsert);
+        for (int i = 0; i < savedUsers.size(); i++) {
+            int index = insertIndexes.get(i);
+            UserDTO savedUser = UserService.mapToDTO(savedUsers.get(i));
+            results[index] = Result.builder()
+                    .index(index)
+                    .status(Status.CREATED)
+                    .user(savedUser)
+                    .build();
+            eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+        }
+
+        return BulkCreateResponseDTO.builder()
+                .created(savedUsers.size())
+                .failed(userDTOs.size() - savedUsers.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Deletes every listed user that exists, in a single transaction. Each chunk of ids costs one
+     * locking projection (for the missing ids and the counters' active flags) and one IN-clause
+     * DELETE. The lock keeps concurrent requests from deleting or flipping those rows first, so
+     * the DELETE's row count must match the projection; a mismatch rolls the request back rather
+     * than publish deletes that did not happen here.
+     */
+    public BulkDeleteResponseDTO deleteUsers(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Boolean> deletedActive = new HashMap<>(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            List<UserDTO> existing = userRepository.lockDtosByIdIn(chunk);
+            if (existing.isEmpty()) {
+                continue;
+            }
+            int deleted = userRepository.deleteRowsByIdIn(existing.stream().map(UserDTO::getId).toList());
+            if (deleted != existing.size()) {
+                throw new IllegalStateException("Deleted " + deleted + " of " + existing.size() + " locked users");
+            }
+            existing.forEach(user -> deletedActive.put(user.getId(), user.getActive()));
+        }
+
+        deletedActive.forEach((id, active) -> eventPublisher.publishEvent(UserChangedEvent.deleted(id, active)));
+        return BulkDeleteResponseDTO.builder()
+                .deleted(deletedActive.size())
+                .missingIds(distinctIds.stream().filter(id -> !deletedActive.containsKey(id)).toList())
+                .build();
+    }
+
+    /**
+     * Sets the active flag of the listed users, in chunks of one locking select and one UPDATE.
+     * Users that already have the flag are left untouched and not counted.
+     * <p>
+     * Each chunk commits on its own, so a large request never holds more than one chunk of row
+     * locks and its events reach listeners as it goes. A failure leaves earlier chunks applied;
+     * the request is idempotent and can simply be retried.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActiveResponseDTO updateActive(List<Long> ids, boolean active) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        long updatedAt = System.currentTimeMillis();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            updated += transaction.execute(status -> updateActiveChunk(
+                    userRepository.findIdsByIdInAndActiveNot(chunk, active), active, updatedAt));
+        }
+        return BulkActiveResponseDTO.builder().updated(updated).build();
+    }
+
+    /**
+     * Sets the active flag of every user created before {@code createdBefore}, walking the
+     * matching ids in keyset pages of {@link #CHUNK_SIZE}, one transaction per page as in
+     * {@link #updateActive}.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkActiveResponseDTO updateActiveCreatedBefore(long createdBefore, boolean active) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long updatedAt = System.currentTimeMillis();
+        int updated = 0;
+        long afterId = 0L;
+        List<Long> chunk;
+        do {
+            long after = afterId;
+            chunk = transaction.execute(status -> {
+                List<Long> ids = userRepository.findIdsByCreatedAtBeforeAndActiveNot(
+                        createdBefore, active, after, Limit.of(CHUNK_SIZE));
+                updateActiveChunk(ids, active, updatedAt);
+                return ids;
+            });
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1);
+                updated += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        return BulkActiveResponseDTO.builder().updated(updated).build();
+    }
+
+    /**
+     * Flips the given ids, which the caller selected with a row lock in the current transaction.
+     * The lock means the UPDATE's row count must match; events are only published once it does.
+     */
+    private int updateActiveChunk(List<Long> ids, boolean active, long updatedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = userRepository.updateActiveByIdIn(ids, active, updatedAt);
+        if (updated != ids.size()) {
+            throw new IllegalStateException("Updated " + updated + " of " + ids.size() + " locked users");
+        }
+        ids.forEach(id -> eventPublisher.publishEvent(UserChangedEvent.activeChanged(id, active, !active)));
+        return updated;
+    }
+}
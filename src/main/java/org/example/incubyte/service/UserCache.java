@@ -0,0 +1,97 @@
+package org.example.incubyte.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.incubyte.datasource.PrimaryReads;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of users by id (Caffeine W-TinyLFU). Entries are immutable and every
+ * hit returns a fresh {@link UserDTO}, so callers may mutate what they get.
+ * <p>
+ * Entries are invalidated after commit, from {@link UserChangedEvent}s, which covers every
+ * write path including the bulk ones. A load that overlaps an invalidation of its id is
+ * returned but not stored: each id maps to a stamp that invalidation bumps, and the load only
+ * puts its value if the stamp it read before querying is still current.
+ * <p>
+ * Loads always read the primary. Under replica routing a replica may still hold a row as it
+ * was before its invalidation, and caching that would serve it to every client, the writer
+ * included, until the next change.
+ */
+@Component
+public class UserCache {
+
+    public static final String NAME = "users";
+
+    private static final int STAMP_STRIPES = 4096;
+
+    private final Cache<Long, CachedUser> cache;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${users.cache.spec:maximumSize=10000,expireAfterWrite=10m}") String spec) {
+        this.cache = Caffeine.from(spec).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    public UserDTO get(Long id, Function<Long, UserDTO> loader) {
+        CachedUser cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.toDTO();
+        }
+
+        int stripe = stripe(id);
+        long stamp = stamps.get(stripe);
+        UserDTO loaded = PrimaryReads.during(() -> loader.apply(id));
+        CachedUser value = CachedUser.of(loaded);
+        // compute() serializes with invalidate(), so the stamp cannot move between check and put
+        cache.asMap().compute(id, (key, current) -> stamps.get(stripe) == stamp ? value : current);
+        return value.toDTO();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public void invalidate(Long id) {
+        cache.asMap().compute(id, (key, current) -> {
+            stamps.incrementAndGet(stripe(key));
+            return null;
+        });
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (STAMP_STRIPES - 1);
+    }
+
+    private record CachedUser(Long id, String name, String email, String phone, Boolean active,
+                              Long createdAt, Long updatedAt) {
+
+        static CachedUser of(UserDTO user) {
+            return new CachedUser(user.getId(), user.getName(), user.getEmail(), user.getPhone(),
+                    user.getActive(), user.getCreatedAt(), user.getUpdatedAt());
+        }
+
+        UserDTO toDTO() {
+            UserDTO user = new UserDTO();
+            user.setId(id);
+            user.setName(name);
+            user.setEmail(email);
+            user.setPhone(phone);
+            user.setActive(active);
+            user.setCreatedAt(createdAt);
+            user.setUpdatedAt(updatedAt);
+            return user;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.incubyte.service;
+
+import org.example.incubyte.dto.UserChangeDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Committed user mutations as a Server-Sent Events stream.
+ * <p>
+ * Changes are kept in a {@link UserChangeLog}, and each subscriber is only a cursor into it,
+ * served by its own virtual thread. A slow consumer therefore blocks nothing but its own writes
+ * and holds no private queue. If it falls further behind than the buffer reaches, or resumes with
+ * a {@code Last-Event-ID} from before a restart, it receives a {@code reset} event carrying the
+ * sequence it resumes from, and must resynchronize (e.g. from {@code /export}) before applying
+ * later changes.
+ */
+@Service
+public class UserChangeFeed implements DisposableBean {
+
+    public static final String RESET_EVENT = "reset";
+
+    private static final int SEND_BATCH = 256;
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final UserChangeLog log;
+    private final Duration streamTimeout;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public UserChangeFeed(@Value("${users.changes.buffer-size:10000}") int bufferSize,
+                          @Value("${users.changes.stream-timeout:PT30M}") Duration streamTimeout) {
+        this.log = new UserChangeLog(bufferSize, Long.toString(System.currentTimeMillis(), 36));
+        this.streamTimeout = streamTimeout;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.append(event);
+    }
+
+    /**
+     * Opens a stream that starts after {@code lastEventId}, or with the next change when it is {@code null}.
+     * The stream ends after {@code stream-timeout}; clients reconnect with {@code Last-Event-ID}.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(ex -> open.set(false));
+
+        long start = log.cursorAfter(lastEventId);
+        senders.execute(() -> stream(emitter, open, start));
+        return emitter;
+    }
+
+    private void stream(SseEmitter emitter, AtomicBoolean open, long cursor) {
+        try {
+            while (open.get()) {
+                UserChangeLog.Batch batch = log.read(cursor, SEND_BATCH, HEARTBEAT_INTERVAL);
+                if (batch.reset()) {
+                    // Carries the id just before the resume point, so a reconnect continues from there.
+                    emitter.send(SseEmitter.event()
+                            .id(log.eventId(batch.from() - 1))
+                            .name(RESET_EVENT)
+                            .data(Map.of("sequence", batch.from())));
+                }
+                cursor = batch.from();
+                if (batch.changes().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                for (UserChangeDTO change : batch.changes()) {
+                    emitter.send(SseEmitter.event()
+                            .id(log.eventId(change.getSequence()))
+                            .name(change.getType().name().toLowerCase(Locale.ROOT))
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+                cursor += batch.changes().size();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter timed out; Spring completes the async request itself.
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+    }
+}
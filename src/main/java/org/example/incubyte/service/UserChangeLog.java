@@ -0,0 +1,117 @@
+package org.example.incubyte.service;
+
+import org.example.incubyte.dto.UserChangeDTO;
+import org.example.incubyte.event.UserChangedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer of committed user changes under increasing sequence numbers, read by
+ * every subscriber of {@link UserChangeFeed} through its own cursor.
+ * <p>
+ * Event ids are {@code <epoch>-<sequence>}. Sequences restart at 1 with every process, so the
+ * epoch is what keeps a {@code Last-Event-ID} from an earlier run from being taken as a position
+ * in this one; such an id resets the subscriber instead.
+ */
+public class UserChangeLog {
+
+    /** Changes starting at {@code from}; {@code reset} when the requested cursor could not be honoured. */
+    public record Batch(long from, boolean reset, List<UserChangeDTO> changes) {
+    }
+
+    private final String epoch;
+    private final UserChangeDTO[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    /** Sequence the next change will get; the buffer holds {@code [nextSequence - buffer.length, nextSequence)}. */
+    private long nextSequence = 1;
+
+    public UserChangeLog(int capacity, String epoch) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (epoch.indexOf('-') >= 0) {
+            throw new IllegalArgumentException("epoch must not contain '-'");
+        }
+        this.buffer = new UserChangeDTO[capacity];
+        this.epoch = epoch;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    public long append(UserChangedEvent event) {
+        lock.lock();
+        try {
+            long sequence = nextSequence++;
+            buffer[(int) (sequence % buffer.length)] = UserChangeDTO.builder()
+                    .sequence(sequence)
+                    .type(event.getType())
+                    .userId(event.getUserId())
+                    .user(event.getUser())
+                    .active(event.getActive())
+                    .build();
+            appended.signalAll();
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cursor for a subscriber that last saw {@code lastEventId}: the next change when it is
+     * {@code null}, and one that {@link #read} resets when the id is malformed or from another epoch.
+     */
+    public long cursorAfter(String lastEventId) {
+        if (lastEventId != null) {
+            int dash = lastEventId.lastIndexOf('-');
+            if (dash > 0 && lastEventId.substring(0, dash).equals(epoch)) {
+                try {
+                    return Long.parseLong(lastEventId.substring(dash + 1)) + 1;
+                } catch (NumberFormatException ignored) {
+                    // falls through to a reset
+                }
+            }
+            return 0;
+        }
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code max} changes from {@code cursor}, waiting up to {@code timeout} when it is
+     * caught up. A cursor that fell out of the buffer, or that this log never issued, is moved to
+     * the next change and the batch is marked as a reset.
+     */
+    public Batch read(long cursor, int max, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            if (cursor == nextSequence) {
+                appended.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            long oldest = Math.max(1, nextSequence - buffer.length);
+            long from = cursor < oldest || cursor > nextSequence ? nextSequence : cursor;
+            List<UserChangeDTO> changes = new ArrayList<>();
+            for (long seq = from; seq < nextSequence && changes.size() < max; seq++) {
+                changes.add(buffer[(int) (seq % buffer.length)]);
+            }
+            return new Batch(from, from != cursor, changes);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.incubyte.service;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque keyset cursors for user pages, shared by the servlet and reactive services.
+ */
+public final class UserCursors {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private UserCursors() {
+    }
+
+    public static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a page from up to {@code pageSize + 1} rows; the extra row only signals that
+     * another page exists, which avoids a COUNT query.
+     */
+    public static UserPageDTO toPage(List<UserDTO> users, int pageSize) {
+        boolean hasMore = users.size() > pageSize;
+        List<UserDTO> page = hasMore ? users.subList(0, pageSize) : users;
+        String nextCursor = hasMore ? encode(page.get(page.size() - 1).getId()) : null;
+        return UserPageDTO.builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the id to seek after; a missing cursor starts from the beginning.
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.incubyte.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over user names and emails, answering case-insensitive substring
+ * queries of at least {@link #MIN_QUERY_LENGTH} characters.
+ * <p>
+ * A query scans only the shortest posting list among its trigrams and verifies each candidate
+ * against the stored text, so postings may hold stale ids: removals and edits never shrink a
+ * posting list, and the postings are rebuilt once stale entries outnumber live ones.
+ */
+public class UserSearchIndex {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    /** Match ranks, best first; the rank is packed above the id so plain key order ranks results. */
+    private static final int EMAIL_EXACT = 0;
+    private static final int EMAIL_PREFIX = 1;
+    private static final int NAME_PREFIX = 2;
+    private static final int NAME_WORD_PREFIX = 3;
+    private static final int NAME_SUBSTRING = 4;
+    private static final int EMAIL_SUBSTRING = 5;
+    private static final int RANK_SHIFT = 56;
+    private static final long ID_MASK = (1L << RANK_SHIFT) - 1;
+
+    private record Document(String name, String email) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private long postingEntries;
+    private long liveEntries;
+
+    /**
+     * Adds a user, or replaces the indexed name and email of an existing one.
+     */
+    public void put(Long id, String name, String email) {
+        Document document = new Document(normalize(name), normalize(email));
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            Set<Long> indexed = previous == null ? Set.of() : trigrams(previous);
+            Set<Long> current = trigrams(document);
+            liveEntries += current.size() - indexed.size();
+            for (long trigram : current) {
+                if (!indexed.contains(trigram)) {
+                    postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+                    postingEntries++;
+                }
+            }
+            compactIfStale();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                liveEntries -= trigrams(previous).size();
+                compactIfStale();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching ids, ranked (exact email, email prefix, name prefix,
+     * name word prefix, name substring, email substring) and then by id, skipping the first
+     * {@code offset}.
+     */
+    public long[] search(String query, int offset, int limit) {
+        String q = normalize(query);
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        lock.readLock().lock();
+        try {
+            Postings candidates = null;
+            for (int i = 0; i + MIN_QUERY_LENGTH <= q.length(); i++) {
+                Postings list = postings.get(trigram(q, i));
+                if (list == null) {
+                    return new long[0];
+                }
+                if (candidates == null || list.size < candidates.size) {
+                    candidates = list;
+                }
+            }
+
+            // Only the first offset + limit matches are returned, so only those are kept and sorted.
+            int wanted = (int) Math.min((long) offset + limit, candidates.size);
+            if (wanted == 0) {
+                return new long[0];
+            }
+            TopKeys top = new TopKeys(wanted);
+            for (int i = 0; i < candidates.size; i++) {
+                long id = candidates.ids[i];
+                Document document = documents.get(id);
+                int rank = document == null ? -1 : rank(document, q);
+                if (rank >= 0) {
+                    top.offer(((long) rank << RANK_SHIFT) | id);
+                }
+            }
+
+            long[] matches = top.sorted();
+            int from = Math.min(offset, matches.length);
+            int to = Math.min(from + limit, matches.length);
+            long[] page = new long[to - from];
+            for (int i = from; i < to; i++) {
+                page[i - from] = matches[i] & ID_MASK;
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int rank(Document document, String q) {
+        if (document.email().equals(q)) return EMAIL_EXACT;
+        if (document.email().startsWith(q)) return EMAIL_PREFIX;
+        if (document.name().startsWith(q)) return NAME_PREFIX;
+        int inName = document.name().indexOf(q);
+        if (inName > 0 && document.name().charAt(inName - 1) == ' ') return NAME_WORD_PREFIX;
+        if (inName >= 0) return NAME_SUBSTRING;
+        if (document.email().contains(q)) return EMAIL_SUBSTRING;
+        return -1;
+    }
+
+    // Must be called with the write lock held. Rebuilding at 2x keeps its cost amortized per write.
+    private void compactIfStale() {
+        if (postingEntries < 1024 || postingEntries < liveEntries * 2) {
+            return;
+        }
+        postings.clear();
+        postingEntries = 0;
+        documents.forEach((id, document) -> {
+            for (long trigram : trigrams(document)) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+                postingEntries++;
+            }
+        });
+    }
+
+    private static Set<Long> trigrams(Document document) {
+        Set<Long> trigrams = new HashSet<>();
+        addTrigrams(document.name(), trigrams);
+        addTrigrams(document.email(), trigrams);
+        return trigrams;
+    }
+
+    private static void addTrigrams(String text, Set<Long> trigrams) {
+        for (int i = 0; i + MIN_QUERY_LENGTH <= text.length(); i++) {
+            trigrams.add(trigram(text, i));
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The smallest distinct keys offered, up to a fixed capacity, in a binary max-heap: a query
+     * costs O(n log k) for n candidates and a page ending at k, instead of sorting all n.
+     * A user re-indexed with a trigram it had before is offered twice, hence the member set.
+     */
+    private static final class TopKeys {
+        private final long[] heap;
+        private final Set<Long> members = new HashSet<>();
+        private int size;
+
+        TopKeys(int capacity) {
+            heap = new long[capacity];
+        }
+
+        void offer(long key) {
+            if (size < heap.length) {
+                if (members.add(key)) {
+                    heap[size] = key;
+                    siftUp(size++);
+                }
+            } else if (key < heap[0] && members.add(key)) {
+                members.remove(heap[0]);
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        long[] sorted() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            return keys;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] >= heap[i]) {
+                    return;
+                }
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] > heap[largest]) largest = left;
+                if (right < size && heap[right] > heap[largest]) largest = right;
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long key = heap[a];
+            heap[a] = heap[b];
+            heap[b] = key;
+        }
+    }
+
+    /** Growable primitive id list; avoids a boxed Long per (trigram, user) pair. */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
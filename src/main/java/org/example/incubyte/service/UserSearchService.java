@@ -0,0 +1,108 @@
+package org.example.incubyte.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.InvalidCursorException;
+import org.example.incubyte.exception.InvalidSearchQueryException;
+import org.example.incubyte.repository.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Substring search over user names and emails. Matching and ranking run against a
+ * {@link UserSearchIndex} that is loaded once at startup and afterwards follows committed
+ * {@link UserChangedEvent}s; only the returned page is read from the database.
+ */
+@Service
+@Profile("!sharded")
+@RequiredArgsConstructor
+@Timed(value = "users.service", description = "User service method latency")
+public class UserSearchService {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    private final UserSearchIndex index = new UserSearchIndex();
+
+    @PostConstruct
+    public void reload() {
+        long afterId = 0L;
+        List<UserDTO> users;
+        do {
+            users = findUsersAfter(afterId, LOAD_PAGE_SIZE);
+            for (UserDTO user : users) {
+                index.put(user.getId(), user.getName(), user.getEmail());
+                afterId = user.getId();
+            }
+        } while (users.size() == LOAD_PAGE_SIZE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                // Active-flag-only updates carry no user and cannot change the indexed text.
+                if (event.getUser() != null) {
+                    index.put(event.getUserId(), event.getUser().getName(), event.getUser().getEmail());
+                }
+            }
+            case DELETED -> index.remove(event.getUserId());
+        }
+    }
+
+    /**
+     * Ranked page of users whose name or email contains {@code q}, ignoring case. The cursor
+     * holds an offset into the ranked matches, so pages may shift if users change in between.
+     */
+    public UserPageDTO search(String q, String after, int limit) {
+        if (q == null || q.trim().length() < UserSearchIndex.MIN_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    "Search query must have at least " + UserSearchIndex.MIN_QUERY_LENGTH + " characters");
+        }
+        int pageSize = UserCursors.clampPageSize(limit);
+        long offset = UserCursors.decode(after);
+        if (offset < 0 || offset > Integer.MAX_VALUE - pageSize - 1) {
+            throw new InvalidCursorException("Invalid cursor: " + after);
+        }
+        long[] ids = index.search(q, (int) offset, pageSize + 1);
+        boolean hasMore = ids.length > pageSize;
+        List<Long> pageIds = Arrays.stream(ids).limit(pageSize).boxed().toList();
+
+        Map<Long, UserDTO> byId = pageIds.isEmpty() ? Map.of() : findUsersById(pageIds).stream()
+                .collect(Collectors.toMap(UserDTO::getId, Function.identity()));
+        List<UserDTO> items = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            UserDTO user = byId.get(id);
+            if (user != null) {
+                items.add(user);
+            }
+        }
+        return UserPageDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? UserCursors.encode(offset + pageSize) : null)
+                .build();
+    }
+
+    /** Up to {@code limit} users with ids above {@code afterId}, in id order. */
+    protected List<UserDTO> findUsersAfter(long afterId, int limit) {
+        return userRepository.findDtosByIdGreaterThan(afterId, Limit.of(limit));
+    }
+
+    protected List<UserDTO> findUsersById(List<Long> ids) {
+        return userRepository.findDtosByIdIn(ids);
+    }
+}
@@ -1,23 +1,40 @@
 package org.example.incubyte.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserPatchDTO;
 import org.example.incubyte.entity.User;
+import org.example.incubyte.event.UserChangedEvent;
 import org.example.incubyte.exception.DuplicateEmailException;
 import org.example.incubyte.exception.UserNotFoundException;
 import org.example.incubyte.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "users.service", description = "User service method latency")
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = UserCursors.DEFAULT_PAGE_SIZE;
+    public static final int MAX_PAGE_SIZE = UserCursors.MAX_PAGE_SIZE;
+    /** {@link #DEFAULT_PAGE_SIZE} as a {@code @RequestParam} default, which must be a String constant. */
+    public static final String DEFAULT_PAGE_SIZE_PARAM = "" + DEFAULT_PAGE_SIZE;
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
 
     public UserDTO createUser(UserDTO userDTO) {
         if (userRepository.findByEmail(userDTO.getEmail()).isPresent()) {
@@ -31,38 +48,94 @@ public class UserService {
                 .active(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
-        return mapToDTO(savedUser);
+        UserDTO savedUser = mapToDTO(userRepository.save(user));
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+        return savedUser;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Read-through cached by id (see {@link UserCache}). Hits do not open a transaction; a miss
+     * runs the lookup in the repository's own read-only one.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDTO getUserById(Long id) {
-        User user = userRepository.findById(id)
+        return userCache.get(id, this::loadUser);
+    }
+
+    private UserDTO loadUser(Long id) {
+        return userRepository.findDtoById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
-        return mapToDTO(user);
     }
 
     @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return userRepository.findAllDtos();
     }
 
     @Transactional(readOnly = true)
     public List<UserDTO> getActiveUsers() {
-        return userRepository.findByActive(true).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return userRepository.findDtosByActive(true);
+    }
+
+    @Transactional(readOnly = true)
+    public UserPageDTO getUsersPage(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return UserCursors.toPage(
+                userRepository.findDtosByIdGreaterThan(UserCursors.decode(after), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public UserPageDTO getActiveUsersPage(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return UserCursors.toPage(userRepository.findDtosByActiveAndIdGreaterThan(
+                true, UserCursors.decode(after), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Current revision (updatedAt) of one user, read without loading the row.
+     */
+    @Transactional(readOnly = true)
+    public long getUserVersion(Long id) {
+        return userRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
+    /**
+     * Version of the page {@link #getUsersPage} would return, from (id, updatedAt) rows only.
+     */
+    @Transactional(readOnly = true)
+    public long getUsersPageVersion(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return UserVersions.pageVersion(
+                userRepository.findVersionsByIdGreaterThan(UserCursors.decode(after), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public long getActiveUsersPageVersion(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return UserVersions.pageVersion(userRepository.findVersionsByActiveAndIdGreaterThan(
+                true, UserCursors.decode(after), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Streams every user, in id order, to {@code consumer} without materializing the table.
+     * Rows are projected straight into DTOs, so nothing accumulates in the persistence context.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserDTO> consumer) {
+        try (Stream<UserDTO> users = userRepository.streamAllDtos()) {
+            users.forEach(consumer);
+        }
     }
 
     public UserDTO updateUser(Long id, UserDTO userDTO) {
+        Boolean previousActive = userDTO.getActive() == null ? null : applyActive(id, userDTO.getActive());
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        if (previousActive == null) previousActive = user.getActive();
 
         if (userDTO.getName() != null) user.setName(userDTO.getName());
         if (userDTO.getPhone() != null) user.setPhone(userDTO.getPhone());
-        if (userDTO.getActive() != null) user.setActive(userDTO.getActive());
 
         if (userDTO.getEmail() != null && !userDTO.getEmail().equals(user.getEmail())) {
             if (userRepository.findByEmail(userDTO.getEmail()).isPresent()) {
@@ -71,26 +144,70 @@ public class UserService {
             user.setEmail(userDTO.getEmail());
         }
 
-        User updatedUser = userRepository.save(user);
-        return mapToDTO(updatedUser);
+        UserDTO updatedUser = mapToDTO(userRepository.save(user));
+        eventPublisher.publishEvent(UserChangedEvent.updated(updatedUser, previousActive));
+        return updatedUser;
+    }
+
+    /**
+     * Applies the non-null fields of {@code patch} in one UPDATE and returns the new row through
+     * one projection. Email uniqueness is left to the unique constraint; an active flag in the
+     * patch goes through {@link #applyActive} first.
+     */
+    public UserDTO patchUser(Long id, UserPatchDTO patch) {
+        Boolean previousActive = patch.getActive() == null ? null : applyActive(id, patch.getActive());
+
+        int updated;
+        try {
+            updated = userRepository.patchById(id, patch.getName(), patch.getEmail(), patch.getPhone(),
+                    null, System.currentTimeMillis());
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEmailException.isCause(ex)) {
+                throw ex;
+            }
+            throw new DuplicateEmailException("Email already exists: " + patch.getEmail());
+        }
+        if (updated == 0) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+
+        UserDTO patchedUser = userRepository.findDtoById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        eventPublisher.publishEvent(UserChangedEvent.updated(patchedUser,
+                previousActive == null ? patchedUser.getActive() : previousActive));
+        return patchedUser;
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
+        // The counters need the deleted row's active flag. Most deletes hit active users, so trying
+        // those first settles the common case in one statement; the fallback tells inactive from missing.
+        boolean previousActive = userRepository.deleteRowByIdAndActive(id, true) > 0;
+        if (!previousActive && userRepository.deleteRowById(id) == 0) {
             throw new UserNotFoundException("User not found with id: " + id);
         }
-        userRepository.deleteById(id);
-    }
-
-    private UserDTO mapToDTO(User user) {
-        return UserDTO.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .phone(user.getPhone())
-                .active(user.getActive())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
-                .build();
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id, previousActive));
+    }
+
+    /**
+     * Sets the active flag with a conditional UPDATE and returns the flag as it was before. The
+     * row count, not an earlier read, says whether this transaction flipped it, so concurrent
+     * writers never report the same flip twice to the counters.
+     */
+    private Boolean applyActive(Long id, Boolean active) {
+        return userRepository.updateActiveById(id, active, System.currentTimeMillis()) > 0 ? !active : active;
+    }
+
+    // Setters instead of the builder: one allocation per mapped user, not two. Unlike the positional
+    // all-args constructor, a reordered or added field cannot silently land in the wrong property.
+    public static UserDTO mapToDTO(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setPhone(user.getPhone());
+        dto.setActive(user.getActive());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setUpdatedAt(user.getUpdatedAt());
+        return dto;
     }
 }
\ No newline at end of file
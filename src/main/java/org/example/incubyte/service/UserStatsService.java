@@ -0,0 +1,80 @@
+package org.example.incubyte.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.UserStatsDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.repository.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Total and active user counts, kept in memory. The counters are seeded from the
+ * table at startup and afterwards move only with committed {@link UserChangedEvent}s,
+ * so reading them never touches the database.
+ * <p>
+ * Writers derive each event's active delta from the row counts of their statements, which
+ * keeps concurrent flips exact. The counters are still re-seeded from COUNT(*) every
+ * {@code users.stats.reseed-interval}, which bounds any drift left by races the events
+ * cannot see, including events applied around a re-seed itself.
+ */
+@Service
+@Profile("!sharded")
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserRepository userRepository;
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${users.stats.reseed-interval:PT5M}",
+            fixedDelayString = "${users.stats.reseed-interval:PT5M}")
+    public void reload() {
+        total.set(countUsers());
+        active.set(countActiveUsers());
+    }
+
+    protected long countUsers() {
+        return userRepository.count();
+    }
+
+    protected long countActiveUsers() {
+        return userRepository.countByActive(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                total.incrementAndGet();
+                if (Boolean.TRUE.equals(event.getActive())) active.incrementAndGet();
+            }
+            case UPDATED -> {
+                boolean wasActive = Boolean.TRUE.equals(event.getPreviousActive());
+                boolean isActive = Boolean.TRUE.equals(event.getActive());
+                if (!wasActive && isActive) active.incrementAndGet();
+                if (wasActive && !isActive) active.decrementAndGet();
+            }
+            case DELETED -> {
+                total.decrementAndGet();
+                if (Boolean.TRUE.equals(event.getPreviousActive())) active.decrementAndGet();
+            }
+        }
+    }
+
+    public UserStatsDTO getStats() {
+        long totalCount = total.get();
+        long activeCount = active.get();
+        return UserStatsDTO.builder()
+                .total(totalCount)
+                .active(activeCount)
+                .inactive(totalCount - activeCount)
+                .build();
+    }
+}
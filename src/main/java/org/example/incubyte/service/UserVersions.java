@@ -0,0 +1,44 @@
+package org.example.incubyte.service;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserVersionDTO;
+
+import java.util.List;
+
+/**
+ * Page versions for conditional list requests. A version computed from the lightweight
+ * (id, updatedAt) rows equals the one computed from the full page they describe.
+ */
+public final class UserVersions {
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private UserVersions() {
+    }
+
+    /**
+     * Version of a page read as {@code pageSize + 1} version rows; the extra row only
+     * contributes whether another page exists.
+     */
+    public static long pageVersion(List<UserVersionDTO> rows, int pageSize) {
+        long hash = SEED;
+        for (UserVersionDTO row : rows.subList(0, Math.min(rows.size(), pageSize))) {
+            hash = mix(mix(hash, row.getId()), row.getUpdatedAt());
+        }
+        return mix(hash, rows.size() > pageSize ? 1L : 0L);
+    }
+
+    public static long pageVersion(UserPageDTO page) {
+        long hash = SEED;
+        for (UserDTO user : page.getItems()) {
+            hash = mix(mix(hash, user.getId()), user.getUpdatedAt());
+        }
+        return mix(hash, page.getNextCursor() != null ? 1L : 0L);
+    }
+
+    private static long mix(long hash, Long value) {
+        return (hash ^ (value == null ? 0 : value)) * MULTIPLIER;
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.incubyte.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.incubyte.dto.AsyncCreateStatusDTO;
+import org.example.incubyte.dto.AsyncCreateStatusDTO.Status;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.exception.DuplicateEmailException;
+import org.example.incubyte.exception.WriteQueueFullException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Write-behind create path. Accepted creates wait in a bounded queue; a single writer drains
+ * whatever has accumulated (up to {@code max-batch}) and hands it to
+ * {@link UserBulkService#createUsers}, so a burst of signups shares one transaction, one
+ * JDBC batch and one commit, and duplicate emails within a batch are resolved there. An email
+ * race that still fails the batch at insert time splits it in halves until the conflicting
+ * create is alone, so only that one ends as {@link Status#DUPLICATE_EMAIL}.
+ * <p>
+ * When the queue is full the create either runs synchronously through {@link UserService}
+ * ({@code overflow=sync}) or is refused with {@link WriteQueueFullException} ({@code overflow=reject}).
+ * Outcomes stay queryable by tracking id for {@link #STATUS_RETENTION}, for at most
+ * {@code max-tracked} creates at a time. Like {@link UserBulkService}, not registered under
+ * the {@code sharded} profile.
+ */
+@Slf4j
+@Service
+@Profile("!sharded")
+public class UserWriteBehindService implements DisposableBean {
+
+    public static final Duration STATUS_RETENTION = Duration.ofMinutes(10);
+
+    public enum Overflow {
+        SYNC,
+        REJECT
+    }
+
+    private record PendingCreate(String trackingId, UserDTO user, CompletableFuture<AsyncCreateStatusDTO> outcome) {
+    }
+
+    private final UserService userService;
+    private final UserBulkService userBulkService;
+    private final int maxBatch;
+    private final Overflow overflow;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Cache<String, CompletableFuture<AsyncCreateStatusDTO>> outcomes;
+    private final Counter commits;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public UserWriteBehindService(UserService userService,
+                                  UserBulkService userBulkService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${users.async-create.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${users.async-create.max-batch:500}") int maxBatch,
+                                  @Value("${users.async-create.overflow:sync}") Overflow overflow,
+                                  @Value("${users.async-create.max-tracked:100000}") long maxTracked) {
+        this.userService = userService;
+        this.userBulkService = userBulkService;
+        this.maxBatch = maxBatch;
+        this.overflow = overflow;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.outcomes = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(STATUS_RETENTION)
+                .build();
+        this.commits = Counter.builder("users.async-create.commits")
+                .description("Transactions committed by the write-behind writer")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("users.async-create.batch.size")
+                .description("Creates per write-behind transaction")
+                .register(meterRegistry);
+        Gauge.builder("users.async-create.queue", queue, BlockingQueue::size)
+                .description("Creates waiting for the write-behind writer")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("user-write-behind").daemon().unstarted(this::drain);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues a create and returns its {@link Status#PENDING} status, or the final status when
+     * the queue was full and the create ran synchronously.
+     */
+    public AsyncCreateStatusDTO submit(UserDTO user) {
+        String trackingId = UUID.randomUUID().toString();
+        PendingCreate pending = new PendingCreate(trackingId, user, new CompletableFuture<>());
+        outcomes.put(trackingId, pending.outcome());
+        if (running && queue.offer(pending)) {
+            return pendingStatus(trackingId);
+        }
+        outcomes.invalidate(trackingId);
+        if (overflow == Overflow.REJECT) {
+            throw new WriteQueueFullException("Write queue is full, retry later");
+        }
+        AsyncCreateStatusDTO created = AsyncCreateStatusDTO.builder()
+                .trackingId(trackingId)
+                .status(Status.CREATED)
+                .user(userService.createUser(user))
+                .build();
+        outcomes.put(trackingId, CompletableFuture.completedFuture(created));
+        return created;
+    }
+
+    /**
+     * Current status of a create, waiting up to {@code wait} for a pending one to finish.
+     * Empty once the id is unknown or older than {@link #STATUS_RETENTION}.
+     */
+    public Optional<AsyncCreateStatusDTO> getStatus(String trackingId, Duration wait) {
+        CompletableFuture<AsyncCreateStatusDTO> outcome = outcomes.getIfPresent(trackingId);
+        if (outcome == null) {
+            return Optional.empty();
+        }
+        if (!wait.isZero() && !outcome.isDone()) {
+            try {
+                return Optional.of(outcome.get(wait.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (TimeoutException ex) {
+                // Still queued; fall through to the pending status.
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+        return Optional.of(outcome.getNow(pendingStatus(trackingId)));
+    }
+
+    private void drain() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        BulkCreateResponseDTO response;
+        try {
+            response = userBulkService.createUsers(batch.stream().map(PendingCreate::user).toList());
+        } catch (DataIntegrityViolationException ex) {
+            if (batch.size() > 1) {
+                int half = batch.size() / 2;
+                write(batch.subList(0, half));
+                write(batch.subList(half, batch.size()));
+            } else if (DuplicateEmailException.isCause(ex)) {
+                complete(batch, Status.DUPLICATE_EMAIL, "Email already exists: " + batch.get(0).user().getEmail());
+            } else {
+                log.warn("Write-behind create failed", ex);
+                complete(batch, Status.FAILED, ex.getMessage());
+            }
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind batch of {} creates failed", batch.size(), ex);
+            complete(batch, Status.FAILED, ex.getMessage());
+            return;
+        }
+        commits.increment();
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingCreate pending = batch.get(i);
+            BulkCreateResponseDTO.Result result = response.getResults().get(i);
+            pending.outcome().complete(AsyncCreateStatusDTO.builder()
+                    .trackingId(pending.trackingId())
+                    .status(result.getStatus() == BulkCreateResponseDTO.Status.CREATED
+                            ? Status.CREATED : Status.DUPLICATE_EMAIL)
+                    .user(result.getUser())
+                    .error(result.getError())
+                    .build());
+        }
+    }
+
+    private static void complete(List<PendingCreate> batch, Status status, String error) {
+        batch.forEach(pending -> pending.outcome().complete(AsyncCreateStatusDTO.builder()
+                .trackingId(pending.trackingId())
+                .status(status)
+                .error(error)
+                .build()));
+    }
+
+    private static AsyncCreateStatusDTO pendingStatus(String trackingId) {
+        return AsyncCreateStatusDTO.builder().trackingId(trackingId).status(Status.PENDING).build();
+    }
+
+    /**
+     * Stops accepting creates and writes out everything already queued before returning.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+}
@@ -0,0 +1,311 @@
+package org.example.incubyte.sharding;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.exception.DuplicateEmailException;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Users hash-partitioned by id across N shard databases.
+ * <p>
+ * A separate directory database hands out ids from one sequence and owns the global
+ * {@code email -> id} mapping, whose primary key makes email uniqueness hold across shards:
+ * a create first claims its email there, so a duplicate fails before any shard is touched.
+ * Lookups by id go to exactly one shard, lookups by email to the directory and then one shard,
+ * and full listings query every shard in parallel and k-way merge the id-ordered results.
+ */
+public class ShardedUserRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, name, email, phone, active, created_at, updated_at";
+    private static final RowMapper<UserDTO> USER_ROW = (rs, rowNum) -> UserDTO.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .phone(rs.getString("phone"))
+            .active(rs.getBoolean("active"))
+            .createdAt(rs.getLong("created_at"))
+            .updatedAt(rs.getLong("updated_at"))
+            .build();
+
+    /** A user as {@link #update} left it, with the active flag it had before. */
+    public record Update(UserDTO user, boolean previousActive) {
+    }
+
+    private final JdbcTemplate directory;
+    private final List<JdbcTemplate> shards;
+    private final ExecutorService scatter = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardedUserRepository(DataSource directory, List<? extends DataSource> shards) {
+        this.directory = new JdbcTemplate(directory);
+        this.shards = shards.stream().map(JdbcTemplate::new).toList();
+    }
+
+    /**
+     * Creates the directory and shard tables if they do not exist yet.
+     */
+    public void initSchema() {
+        directory.execute("create sequence if not exists user_ids");
+        directory.execute("create table if not exists user_directory ("
+                + "email varchar(255) primary key, "
+                + "id bigint default next value for user_ids not null)");
+        directory.execute("create index if not exists idx_user_directory_id on user_directory (id)");
+        for (JdbcTemplate shard : shards) {
+            shard.execute("create table if not exists users ("
+                    + "id bigint primary key, name varchar(255) not null, email varchar(255) not null, "
+                    + "phone varchar(255) not null, active boolean not null, "
+                    + "created_at bigint not null, updated_at bigint)");
+            shard.execute("create index if not exists idx_users_active_id on users (active, id)");
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public int shardOf(long id) {
+        return Math.floorMod(Long.hashCode(id * 0x9E3779B97F4A7C15L), shards.size());
+    }
+
+    private JdbcTemplate shardFor(long id) {
+        return shards.get(shardOf(id));
+    }
+
+    public UserDTO create(UserDTO user) {
+        long now = System.currentTimeMillis();
+        long id = claimEmail(user.getEmail());
+        UserDTO created = UserDTO.builder()
+                .id(id)
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .active(user.getActive() == null || user.getActive())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        try {
+            shardFor(id).update("insert into users (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)",
+                    created.getId(), created.getName(), created.getEmail(), created.getPhone(),
+                    created.getActive(), created.getCreatedAt(), created.getUpdatedAt());
+        } catch (RuntimeException ex) {
+            directory.update("delete from user_directory where email = ?", user.getEmail());
+            throw ex;
+        }
+        return created;
+    }
+
+    public Optional<UserDTO> findById(long id) {
+        return shardFor(id).query("select " + COLUMNS + " from users where id = ?", USER_ROW, id)
+                .stream().findFirst();
+    }
+
+    public Optional<UserDTO> findByEmail(String email) {
+        return directory.queryForList("select id from user_directory where email = ?", Long.class, email)
+                .stream().findFirst().flatMap(this::findById);
+    }
+
+    public List<UserDTO> findAll() {
+        return scatterGather(shard -> shard.query("select " + COLUMNS + " from users order by id", USER_ROW));
+    }
+
+    /**
+     * The users with the given ids, in id order; each owning shard gets one IN query for its ids.
+     */
+    public List<UserDTO> findAllById(Collection<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = ids.stream().distinct().collect(Collectors.groupingBy(this::shardOf));
+        List<CompletableFuture<List<UserDTO>>> parts = idsByShard.entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> shards.get(entry.getKey()).query(
+                        "select " + COLUMNS + " from users where id in ("
+                                + String.join(", ", Collections.nCopies(entry.getValue().size(), "?")) + ") order by id",
+                        USER_ROW, entry.getValue().toArray()), scatter))
+                .toList();
+        return mergeById(parts.stream().map(CompletableFuture::join).toList());
+    }
+
+    public List<UserDTO> findByActive(boolean active) {
+        return scatterGather(shard -> shard.query(
+                "select " + COLUMNS + " from users where active = ? order by id", USER_ROW, active));
+    }
+
+    public long count() {
+        return scatter(shard -> shard.queryForObject("select count(*) from users", Long.class))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long countByActive(boolean active) {
+        return scatter(shard -> shard.queryForObject("select count(*) from users where active = ?", Long.class, active))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Up to {@code limit} users with ids above {@code afterId}, in id order, optionally only those
+     * with the given active flag. Each shard returns at most {@code limit} rows to the merge.
+     */
+    public List<UserDTO> findAfter(long afterId, Boolean active, int limit) {
+        List<UserDTO> merged = scatterGather(active == null
+                ? shard -> shard.query("select " + COLUMNS + " from users where id > ? order by id limit ?",
+                        USER_ROW, afterId, limit)
+                : shard -> shard.query("select " + COLUMNS + " from users where active = ? and id > ? order by id limit ?",
+                        USER_ROW, active, afterId, limit));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * Applies the non-null fields of {@code changes}. An email change claims the new address in
+     * the directory before the shard row moves to it, and releases the old one afterwards; if the
+     * row is gone or the shard write fails, the new claim is released instead.
+     * <p>
+     * The active flag is set first, with an UPDATE conditional on its current value, and the
+     * previous flag comes from that statement's row count rather than from a read, so two
+     * concurrent flips are never both reported.
+     */
+    public Update update(long id, UserDTO changes) {
+        JdbcTemplate shard = shardFor(id);
+        Boolean flipped = null;
+        if (changes.getActive() != null) {
+            boolean active = changes.getActive();
+            flipped = shard.update("update users set active = ?, updated_at = ? where id = ? and active <> ?",
+                    active, System.currentTimeMillis(), id, active) > 0 ? !active : active;
+        }
+        UserDTO current = findById(id).orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        boolean previousActive = flipped != null ? flipped : current.getActive();
+        boolean emailChanged = changes.getEmail() != null && !changes.getEmail().equals(current.getEmail());
+        if (emailChanged) {
+            claimEmail(changes.getEmail(), id);
+        }
+        UserDTO updated = UserDTO.builder()
+                .id(id)
+                .name(Objects.requireNonNullElse(changes.getName(), current.getName()))
+                .email(Objects.requireNonNullElse(changes.getEmail(), current.getEmail()))
+                .phone(Objects.requireNonNullElse(changes.getPhone(), current.getPhone()))
+                .active(current.getActive())
+                .createdAt(current.getCreatedAt())
+                .updatedAt(System.currentTimeMillis())
+                .build();
+        int rows;
+        try {
+            rows = shard.update("update users set name = ?, email = ?, phone = ?, updated_at = ? where id = ?",
+                    updated.getName(), updated.getEmail(), updated.getPhone(), updated.getUpdatedAt(), id);
+        } catch (RuntimeException ex) {
+            if (emailChanged) {
+                releaseEmail(changes.getEmail(), id);
+            }
+            throw ex;
+        }
+        if (emailChanged) {
+            releaseEmail(rows == 0 ? changes.getEmail() : current.getEmail(), id);
+        }
+        if (rows == 0) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        return new Update(updated, previousActive);
+    }
+
+    /**
+     * Deletes with one statement on the owning shard; returns {@code false} if there was no such user.
+     */
+    public boolean deleteById(long id) {
+        return delete(id).isPresent();
+    }
+
+    /**
+     * Deletes the user and returns the active flag it had, or empty if there was no such user.
+     * Active users are tried first, so the common case takes one statement.
+     */
+    public Optional<Boolean> delete(long id) {
+        JdbcTemplate shard = shardFor(id);
+        boolean active = shard.update("delete from users where id = ? and active = true", id) > 0;
+        if (!active && shard.update("delete from users where id = ?", id) == 0) {
+            return Optional.empty();
+        }
+        directory.update("delete from user_directory where id = ?", id);
+        return Optional.of(active);
+    }
+
+    private long claimEmail(String email) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            directory.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "insert into user_directory (email) values (?)", new String[]{"ID"});
+                statement.setString(1, email);
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException ex) {
+            throw new DuplicateEmailException("Email already exists: " + email);
+        }
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private void claimEmail(String email, long id) {
+        try {
+            directory.update("insert into user_directory (email, id) values (?, ?)", email, id);
+        } catch (DuplicateKeyException ex) {
+            throw new DuplicateEmailException("Email already exists: " + email);
+        }
+    }
+
+    private void releaseEmail(String email, long id) {
+        directory.update("delete from user_directory where email = ? and id = ?", email, id);
+    }
+
+    private List<UserDTO> scatterGather(Function<JdbcTemplate, List<UserDTO>> query) {
+        return mergeById(scatter(query));
+    }
+
+    /** Runs {@code query} on every shard in parallel; the results are in shard order. */
+    private <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<CompletableFuture<T>> parts = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatter))
+                .toList();
+        return parts.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static List<UserDTO> mergeById(List<List<UserDTO>> sortedParts) {
+        List<UserDTO> merged = new ArrayList<>(sortedParts.stream().mapToInt(List::size).sum());
+        record Head(UserDTO user, Iterator<UserDTO> rest) {
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing((Head head) -> head.user().getId()));
+        for (List<UserDTO> part : sortedParts) {
+            Iterator<UserDTO> iterator = part.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.user());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void destroy() {
+        scatter.shutdownNow();
+    }
+}
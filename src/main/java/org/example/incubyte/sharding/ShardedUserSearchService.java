@@ -0,0 +1,33 @@
+package org.example.incubyte.sharding;
+
+import io.micrometer.core.annotation.Timed;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserSearchService;
+
+import java.util.List;
+
+/**
+ * {@link UserSearchService} for the {@code sharded} profile: the index is loaded from the
+ * shards, and each result page is read back from the shards that own its ids.
+ */
+@Timed(value = "users.service", description = "User service method latency")
+public class ShardedUserSearchService extends UserSearchService {
+
+    private final ShardedUserRepository shardedUserRepository;
+
+    public ShardedUserSearchService(ShardedUserRepository shardedUserRepository, UserRepository userRepository) {
+        super(userRepository);
+        this.shardedUserRepository = shardedUserRepository;
+    }
+
+    @Override
+    protected List<UserDTO> findUsersAfter(long afterId, int limit) {
+        return shardedUserRepository.findAfter(afterId, null, limit);
+    }
+
+    @Override
+    protected List<UserDTO> findUsersById(List<Long> ids) {
+        return shardedUserRepository.findAllById(ids);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.incubyte.sharding;
+
+import io.micrometer.core.annotation.Timed;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserPatchDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserCache;
+import org.example.incubyte.service.UserCursors;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserVersions;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link UserService} over a {@link ShardedUserRepository}, serving the single-user and listing
+ * endpoints under the {@code sharded} profile. Every statement commits on its own shard or the
+ * directory, so no JPA transaction is opened; changes are published as {@link UserChangedEvent}s
+ * like on the JPA path, which keeps the cache, the change feed and the counters current.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Timed(value = "users.service", description = "User service method latency")
+public class ShardedUserService extends UserService {
+
+    private final ShardedUserRepository shardedUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
+
+    public ShardedUserService(ShardedUserRepository shardedUserRepository,
+                              UserRepository userRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              UserCache userCache) {
+        super(userRepository, eventPublisher, userCache);
+        this.shardedUserRepository = shardedUserRepository;
+        this.eventPublisher = eventPublisher;
+        this.userCache = userCache;
+    }
+
+    @Override
+    public UserDTO createUser(UserDTO userDTO) {
+        UserDTO savedUser = shardedUserRepository.create(UserDTO.builder()
+                .name(userDTO.getName())
+                .email(userDTO.getEmail())
+                .phone(userDTO.getPhone())
+                .active(true)
+                .build());
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+        return savedUser;
+    }
+
+    @Override
+    public UserDTO getUserById(Long id) {
+        return userCache.get(id, this::loadUser);
+    }
+
+    private UserDTO loadUser(Long id) {
+        return shardedUserRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
+    @Override
+    public List<UserDTO> getAllUsers() {
+        return shardedUserRepository.findAll();
+    }
+
+    @Override
+    public List<UserDTO> getActiveUsers() {
+        return shardedUserRepository.findByActive(true);
+    }
+
+    @Override
+    public UserPageDTO getUsersPage(String after, int limit) {
+        return page(after, limit, null);
+    }
+
+    @Override
+    public UserPageDTO getActiveUsersPage(String after, int limit) {
+        return page(after, limit, true);
+    }
+
+    private UserPageDTO page(String after, int limit, Boolean active) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return UserCursors.toPage(
+                shardedUserRepository.findAfter(UserCursors.decode(after), active, pageSize + 1), pageSize);
+    }
+
+    @Override
+    public long getUserVersion(Long id) {
+        return loadUser(id).getUpdatedAt();
+    }
+
+    // The shards hold no separate version rows, so page versions hash the page itself.
+    @Override
+    public long getUsersPageVersion(String after, int limit) {
+        return UserVersions.pageVersion(getUsersPage(after, limit));
+    }
+
+    @Override
+    public long getActiveUsersPageVersion(String after, int limit) {
+        return UserVersions.pageVersion(getActiveUsersPage(after, limit));
+    }
+
+    @Override
+    public void exportUsers(Consumer<UserDTO> consumer) {
+        shardedUserRepository.findAll().forEach(consumer);
+    }
+
+    @Override
+    public UserDTO updateUser(Long id, UserDTO userDTO) {
+        ShardedUserRepository.Update update = shardedUserRepository.update(id, UserDTO.builder()
+                .name(userDTO.getName())
+                .email(userDTO.getEmail())
+                .phone(userDTO.getPhone())
+                .active(userDTO.getActive())
+                .build());
+        eventPublisher.publishEvent(UserChangedEvent.updated(update.user(), update.previousActive()));
+        return update.user();
+    }
+
+    @Override
+    public UserDTO patchUser(Long id, UserPatchDTO patch) {
+        ShardedUserRepository.Update update = shardedUserRepository.update(id, UserDTO.builder()
+                .name(patch.getName())
+                .email(patch.getEmail())
+                .phone(patch.getPhone())
+                .active(patch.getActive())
+                .build());
+        eventPublisher.publishEvent(UserChangedEvent.updated(update.user(), update.previousActive()));
+        return update.user();
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        boolean previousActive = shardedUserRepository.delete(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id, previousActive));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.incubyte.sharding;
+
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserStatsService;
+
+/**
+ * {@link UserStatsService} for the {@code sharded} profile: the counters are seeded and
+ * re-seeded from COUNT(*) summed over the shards instead of the JPA table.
+ */
+public class ShardedUserStatsService extends UserStatsService {
+
+    private final ShardedUserRepository shardedUserRepository;
+
+    public ShardedUserStatsService(ShardedUserRepository shardedUserRepository, UserRepository userRepository) {
+        super(userRepository);
+        this.shardedUserRepository = shardedUserRepository;
+    }
+
+    @Override
+    protected long countUsers() {
+        return shardedUserRepository.count();
+    }
+
+    @Override
+    protected long countActiveUsers() {
+        return shardedUserRepository.countByActive(true);
+    }
+}
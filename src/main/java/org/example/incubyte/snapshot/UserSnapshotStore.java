@@ -0,0 +1,285 @@
+package org.example.incubyte.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Binary dump of the {@code users} table, for bringing an empty database up to a known state
+ * much faster than replaying SQL.
+ * <p>
+ * The file is a fixed header (magic, version, row count, highest id) followed by one
+ * length-prefixed record per user in id order. {@link #write()} streams rows from JDBC into
+ * a temporary file and moves it over the previous snapshot, so a crash never leaves a torn
+ * snapshot behind. {@link #restore()} moves {@code users_seq} past the snapshot's ids, then reads
+ * the file through memory-mapped windows and inserts with JDBC batches in primary-key order, all
+ * in one transaction: a restore that fails part way leaves the table as empty as it found it.
+ */
+@Slf4j
+public class UserSnapshotStore implements DisposableBean {
+
+    private static final int MAGIC = 0x55534E50; // "USNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    private static final long MAP_WINDOW_BYTES = 64L << 20;
+    private static final int FETCH_SIZE = 1000;
+    private static final int INSERT_BATCH = 1000;
+    /** Must match the allocationSize of the users_seq generator on {@code User.id}. */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final byte ACTIVE = 1;
+    private static final byte UPDATED_AT_NULL = 2;
+
+    private static final String COLUMNS = "id, name, email, phone, active, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path file;
+    private final boolean writeOnShutdown;
+
+    public UserSnapshotStore(DataSource dataSource, Path file, boolean writeOnShutdown) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.file = file;
+        this.writeOnShutdown = writeOnShutdown;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Restores the snapshot if one exists and the table holds no users yet; returns the number
+     * of users restored, or {@code 0} if there was nothing to do.
+     */
+    public long restoreIfEmpty() {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        Boolean hasUsers = jdbcTemplate.queryForObject("select exists (select 1 from users)", Boolean.class);
+        if (Boolean.TRUE.equals(hasUsers)) {
+            log.info("Skipping snapshot restore from {}: users table is not empty", file);
+            return 0;
+        }
+        return restore();
+    }
+
+    /**
+     * Writes every user to the snapshot file, replacing the previous snapshot; returns the row count.
+     */
+    public long write() {
+        long started = System.nanoTime();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            long[] stats;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                stats = writeRows(channel);
+                channel.force(true);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(temp);
+                throw ex;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote {} users to snapshot {} in {} ms", stats[0], file, (System.nanoTime() - started) / 1_000_000);
+            return stats[0];
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write user snapshot " + file, ex);
+        }
+    }
+
+    /**
+     * Inserts every user in the snapshot file; the table must not already hold any of those ids.
+     */
+    public long restore() {
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalStateException("Not a version " + VERSION + " user snapshot: " + file);
+            }
+            long rows = header.getLong();
+            long maxId = header.getLong();
+            // DDL commits on its own in H2, so it cannot join the insert transaction. Running it first
+            // means a failed restore can only leave the sequence ahead of the ids, never behind them.
+            if (rows > 0) {
+                jdbcTemplate.execute("alter sequence users_seq restart with " + (maxId + ID_ALLOCATION_SIZE));
+            }
+            MappedReader reader = new MappedReader(channel, HEADER_BYTES);
+            long restored = jdbcTemplate.execute(
+                    (ConnectionCallback<Long>) connection -> insertRows(connection, reader, rows));
+            log.info("Restored {} users from snapshot {} in {} ms", restored, file, (System.nanoTime() - started) / 1_000_000);
+            return restored;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read user snapshot " + file, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (writeOnShutdown) {
+            write();
+        }
+    }
+
+    /** Returns {rows, maxId}; the header is written last, once both are known. */
+    private long[] writeRows(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        long[] stats = new long[2];
+        channel.position(HEADER_BYTES);
+        jdbcTemplate.query("select " + COLUMNS + " from users order by id", (RowCallbackHandler) rs -> {
+            byte[] name = utf8(rs.getString("name"));
+            byte[] email = utf8(rs.getString("email"));
+            byte[] phone = utf8(rs.getString("phone"));
+            Long updatedAt = rs.getObject("updated_at", Long.class);
+            byte flags = (byte) ((rs.getBoolean("active") ? ACTIVE : 0) | (updatedAt == null ? UPDATED_AT_NULL : 0));
+            int length = 8 + 8 + 8 + 1 + 2 + name.length + 2 + email.length + 2 + phone.length;
+            try {
+                if (buffer.remaining() < 4 + length) {
+                    drain(buffer, channel);
+                }
+                long id = rs.getLong("id");
+                buffer.putInt(length)
+                        .putLong(id)
+                        .putLong(rs.getLong("created_at"))
+                        .putLong(updatedAt == null ? 0L : updatedAt)
+                        .put(flags);
+                putString(buffer, name);
+                putString(buffer, email);
+                putString(buffer, phone);
+                stats[0]++;
+                stats[1] = id;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        drain(buffer, channel);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(stats[0]).putLong(stats[1]).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        return stats;
+    }
+
+    private static long insertRows(Connection connection, MappedReader reader, long rows) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into users (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (long row = 1; row <= rows; row++) {
+                ByteBuffer record = reader.next();
+                insert.setLong(1, record.getLong());
+                long createdAt = record.getLong();
+                long updatedAt = record.getLong();
+                byte flags = record.get();
+                insert.setString(2, getString(record));
+                insert.setString(3, getString(record));
+                insert.setString(4, getString(record));
+                insert.setBoolean(5, (flags & ACTIVE) != 0);
+                insert.setLong(6, createdAt);
+                if ((flags & UPDATED_AT_NULL) != 0) {
+                    insert.setNull(7, Types.BIGINT);
+                } else {
+                    insert.setLong(7, updatedAt);
+                }
+                insert.addBatch();
+                if (row % INSERT_BATCH == 0 || row == rows) {
+                    insert.executeBatch();
+                }
+            }
+            connection.commit();
+            return rows;
+        } catch (SQLException | RuntimeException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer record) {
+        byte[] bytes = new byte[Short.toUnsignedInt(record.getShort())];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sequential reader over the record section, mapping the file in windows of at most
+     * {@link #MAP_WINDOW_BYTES} so snapshots larger than 2 GB can be read.
+     */
+    private static final class MappedReader {
+        private final FileChannel channel;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedReader(FileChannel channel, long position) throws IOException {
+            this.channel = channel;
+            this.windowStart = position;
+            this.window = map(position);
+        }
+
+        /** Returns the next record, positioned just past its length prefix. */
+        ByteBuffer next() {
+            try {
+                ensure(4);
+                int length = window.getInt();
+                ensure(length);
+                ByteBuffer record = window.slice(window.position(), length);
+                window.position(window.position() + length);
+                return record;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (window.remaining() >= bytes) {
+                return;
+            }
+            windowStart += window.position();
+            window = map(windowStart);
+            if (window.remaining() < bytes) {
+                throw new IllegalStateException("Truncated user snapshot at byte " + windowStart);
+            }
+        }
+
+        private MappedByteBuffer map(long position) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_BYTES, channel.size() - position));
+        }
+    }
+}
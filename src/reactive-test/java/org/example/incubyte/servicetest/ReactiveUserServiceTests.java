@@ -0,0 +1,297 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.DuplicateEmailException;
+import org.example.incubyte.exception.InvalidCursorException;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.example.incubyte.repository.ReactiveUserRepository;
+import org.example.incubyte.service.ReactiveUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveUserService - Reactive CRUD Tests")
+class ReactiveUserServiceTests {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveUserService userService;
+
+    private UserDTO testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = UserDTO.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .phone("1234567890")
+                .active(true)
+                .createdAt(1000L)
+                .updatedAt(1000L)
+                .build();
+    }
+
+    private void runWithoutTransaction() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("CREATE")
+    class CreateUserTests {
+
+        @Test
+        @DisplayName("Should insert with a sequence id and publish a created event")
+        void shouldCreateUser() {
+            runWithoutTransaction();
+            UserDTO request = UserDTO.builder().name("Jane").email("jane@example.com").phone("555").build();
+            when(userRepository.findByEmail("jane@example.com")).thenReturn(Mono.empty());
+            when(userRepository.nextId()).thenReturn(Mono.just(51L));
+            when(userRepository.insert(any(UserDTO.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+            UserDTO created = userService.createUser(request).block();
+
+            assertEquals(51L, created.getId());
+            assertTrue(created.getActive());
+            assertNotNull(created.getCreatedAt());
+            ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(UserChangedEvent.Type.CREATED, event.getValue().getType());
+        }
+
+        @Test
+        @DisplayName("Should reject an existing email without inserting")
+        void shouldRejectDuplicateEmail() {
+            runWithoutTransaction();
+            when(userRepository.findByEmail("john@example.com")).thenReturn(Mono.just(testUser));
+
+            Mono<UserDTO> result = userService.createUser(
+                    UserDTO.builder().name("John").email("john@example.com").phone("1").build());
+
+            assertThrows(DuplicateEmailException.class, result::block);
+            verify(userRepository, never()).insert(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should map a unique-constraint race to DuplicateEmailException")
+        void shouldMapConstraintViolation() {
+            runWithoutTransaction();
+            when(userRepository.findByEmail("john@example.com")).thenReturn(Mono.empty());
+            when(userRepository.nextId()).thenReturn(Mono.just(2L));
+            when(userRepository.insert(any(UserDTO.class)))
+                    .thenReturn(Mono.error(new DuplicateKeyException("Unique index or primary key violation: UK_USERS_EMAIL")));
+
+            Mono<UserDTO> result = userService.createUser(
+                    UserDTO.builder().name("John").email("john@example.com").phone("1").build());
+
+            assertThrows(DuplicateEmailException.class, result::block);
+        }
+
+        @Test
+        @DisplayName("Should pass other constraint violations through unmapped")
+        void shouldNotMapOtherConstraintViolations() {
+            runWithoutTransaction();
+            when(userRepository.findByEmail("john@example.com")).thenReturn(Mono.empty());
+            when(userRepository.nextId()).thenReturn(Mono.just(2L));
+            when(userRepository.insert(any(UserDTO.class)))
+                    .thenReturn(Mono.error(new DataIntegrityViolationException("NULL not allowed for column \"PHONE\"")));
+
+            Mono<UserDTO> result = userService.createUser(
+                    UserDTO.builder().name("John").email("john@example.com").build());
+
+            assertThrows(DataIntegrityViolationException.class, result::block);
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("READ")
+    class ReadUserTests {
+
+        @Test
+        @DisplayName("Should return the user by id")
+        void shouldGetUserById() {
+            when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+
+            assertEquals(testUser, userService.getUserById(1L).block());
+        }
+
+        @Test
+        @DisplayName("Should signal UserNotFoundException for an unknown id")
+        void shouldFailForUnknownId() {
+            when(userRepository.findById(99L)).thenReturn(Mono.empty());
+
+            assertThrows(UserNotFoundException.class, () -> userService.getUserById(99L).block());
+        }
+
+        @Test
+        @DisplayName("Should fetch one extra row to detect the next page")
+        void shouldPageWithCursor() {
+            UserDTO second = UserDTO.builder().id(2L).email("b@example.com").build();
+            when(userRepository.findPageAfter(0L, 2)).thenReturn(Flux.just(testUser, second));
+
+            UserPageDTO page = userService.getUsersPage(null, 1).block();
+
+            assertEquals(List.of(testUser), page.getItems());
+            assertNotNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should return the active users")
+        void shouldGetActiveUsers() {
+            when(userRepository.findByActive(true)).thenReturn(Flux.just(testUser));
+
+            assertEquals(List.of(testUser), userService.getActiveUsers().collectList().block());
+        }
+
+        @Test
+        @DisplayName("Should signal InvalidCursorException for a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            Mono<UserPageDTO> result = userService.getUsersPage("not a cursor!", 10);
+
+            assertThrows(InvalidCursorException.class, result::block);
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("UPDATE")
+    class UpdateUserTests {
+
+        @Test
+        @DisplayName("Should apply supplied fields and publish the previous active flag")
+        void shouldUpdateUser() {
+            runWithoutTransaction();
+            testUser.setActive(false);
+            when(userRepository.updateActiveById(eq(1L), eq(false), anyLong())).thenReturn(Mono.just(1L));
+            when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+            when(userRepository.update(any(UserDTO.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+            UserDTO updated = userService.updateUser(1L, UserDTO.builder().name("Johnny").active(false).build()).block();
+
+            assertEquals("Johnny", updated.getName());
+            assertEquals("john@example.com", updated.getEmail());
+            assertFalse(updated.getActive());
+            ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertTrue(event.getValue().getPreviousActive());
+        }
+
+        @Test
+        @DisplayName("Should take the previous active flag from the conditional update, not from the read")
+        void shouldNotReportAFlipItDidNotMake() {
+            runWithoutTransaction();
+            testUser.setActive(false);
+            when(userRepository.updateActiveById(eq(1L), eq(false), anyLong())).thenReturn(Mono.just(0L));
+            when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+            when(userRepository.update(any(UserDTO.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+            userService.updateUser(1L, UserDTO.builder().active(false).build()).block();
+
+            ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertFalse(event.getValue().getPreviousActive());
+        }
+
+        @Test
+        @DisplayName("Should reject an email owned by another user")
+        void shouldRejectTakenEmail() {
+            runWithoutTransaction();
+            when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+            when(userRepository.findByEmail("taken@example.com"))
+                    .thenReturn(Mono.just(UserDTO.builder().id(2L).email("taken@example.com").build()));
+
+            Mono<UserDTO> result = userService.updateUser(1L, UserDTO.builder().email("taken@example.com").build());
+
+            assertThrows(DuplicateEmailException.class, result::block);
+            verify(userRepository, never()).update(any());
+        }
+
+        @Test
+        @DisplayName("Should signal UserNotFoundException for an unknown id")
+        void shouldFailForUnknownId() {
+            runWithoutTransaction();
+            when(userRepository.findById(99L)).thenReturn(Mono.empty());
+
+            assertThrows(UserNotFoundException.class,
+                    () -> userService.updateUser(99L, UserDTO.builder().name("X").build()).block());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE")
+    class DeleteUserTests {
+
+        @Test
+        @DisplayName("Should delete and publish a deleted event")
+        void shouldDeleteUser() {
+            runWithoutTransaction();
+            when(userRepository.deleteByIdAndActive(1L, true)).thenReturn(Mono.just(1L));
+
+            userService.deleteUser(1L).block();
+
+            ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(UserChangedEvent.Type.DELETED, event.getValue().getType());
+            assertTrue(event.getValue().getPreviousActive());
+            verify(userRepository, never()).deleteById(any());
+        }
+
+        @Test
+        @DisplayName("Should fall back to a plain delete for an inactive user")
+        void shouldDeleteInactiveUser() {
+            runWithoutTransaction();
+            when(userRepository.deleteByIdAndActive(1L, true)).thenReturn(Mono.just(0L));
+            when(userRepository.deleteById(1L)).thenReturn(Mono.just(1L));
+
+            userService.deleteUser(1L).block();
+
+            ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertFalse(event.getValue().getPreviousActive());
+        }
+
+        @Test
+        @DisplayName("Should signal UserNotFoundException for an unknown id")
+        void shouldFailForUnknownId() {
+            runWithoutTransaction();
+            when(userRepository.deleteByIdAndActive(99L, true)).thenReturn(Mono.just(0L));
+            when(userRepository.deleteById(99L)).thenReturn(Mono.just(0L));
+
+            assertThrows(UserNotFoundException.class, () -> userService.deleteUser(99L).block());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
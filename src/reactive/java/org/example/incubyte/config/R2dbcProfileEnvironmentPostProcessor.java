@@ -0,0 +1,46 @@
+package org.example.incubyte.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps R2DBC auto-configuration out of every profile but {@code reactive}. An R2DBC
+ * ConnectionFactory makes Boot drop the JDBC DataSource, which the servlet stacks need, and
+ * the reactive build has R2DBC on the classpath whatever the profile.
+ * <p>
+ * The R2DBC classes are appended to {@code spring.autoconfigure.exclude}, so excludes set
+ * elsewhere still apply. Runs after config data, when the active profiles are known.
+ */
+public class R2dbcProfileEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String EXCLUDE = "spring.autoconfigure.exclude";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.acceptsProfiles(Profiles.of("reactive"))) {
+            return;
+        }
+        List<String> excludes = new ArrayList<>(Binder.get(environment).bind(EXCLUDE, String[].class)
+                .map(List::of).orElse(List.of()));
+        excludes.add(R2dbcAutoConfiguration.class.getName());
+        excludes.add(R2dbcTransactionManagerAutoConfiguration.class.getName());
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("r2dbcProfileExcludes", Map.of(EXCLUDE, String.join(",", excludes))));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.incubyte.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserStatsDTO;
+import org.example.incubyte.service.ReactiveUserService;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserStatsService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux version of {@link UserController}, served on Netty under the {@code reactive} profile.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Profile("reactive")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final UserStatsService userStatsService;
+
+    @PostMapping
+    public Mono<ResponseEntity<UserDTO>> createUser(@Valid @RequestBody UserDTO userDTO) {
+        return userService.createUser(userDTO).map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> getUserById(@PathVariable Long id) {
+        return userService.getUserById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<UserPageDTO>> getAllUsers(@RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = UserService.DEFAULT_PAGE_SIZE_PARAM) int limit) {
+        return userService.getUsersPage(after, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/active/list")
+    public Mono<ResponseEntity<UserPageDTO>> getActiveUsers(@RequestParam(required = false) String after,
+                                                            @RequestParam(defaultValue = UserService.DEFAULT_PAGE_SIZE_PARAM) int limit) {
+        return userService.getActiveUsersPage(after, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDTO> getStats() {
+        return ResponseEntity.ok(userStatsService.getStats());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDTO> exportUsers() {
+        return userService.exportUsers();
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> updateUser(@PathVariable Long id, @Valid @RequestBody UserDTO userDTO) {
+        return userService.updateUser(id, userDTO).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.incubyte.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.UserDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC access to the {@code users} table for the reactive stack. Rows map straight to
+ * {@link UserDTO}, like the JPA projections. The schema and the {@code users_seq} sequence
+ * belong to the JPA {@link org.example.incubyte.entity.User} entity.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String SELECT_USER =
+            "SELECT id, name, email, phone, active, created_at, updated_at FROM users";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserDTO> findById(Long id) {
+        return databaseClient.sql(SELECT_USER + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toDTO)
+                .one();
+    }
+
+    public Mono<UserDTO> findByEmail(String email) {
+        return databaseClient.sql(SELECT_USER + " WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toDTO)
+                .one();
+    }
+
+    public Flux<UserDTO> findPageAfter(Long afterId, int limit) {
+        return databaseClient.sql(SELECT_USER + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    public Flux<UserDTO> findByActive(Boolean active) {
+        return databaseClient.sql(SELECT_USER + " WHERE active = :active ORDER BY id")
+                .bind("active", active)
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    public Flux<UserDTO> findPageByActiveAfter(Boolean active, Long afterId, int limit) {
+        return databaseClient.sql(SELECT_USER + " WHERE active = :active AND id > :afterId ORDER BY id LIMIT :limit")
+                .bind("active", active)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    public Flux<UserDTO> findAllOrderById() {
+        return databaseClient.sql(SELECT_USER + " ORDER BY id")
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Draws an id from the sequence Hibernate allocates from, so rows written by either stack never collide.
+     */
+    public Mono<Long> nextId() {
+        return databaseClient.sql("SELECT NEXT VALUE FOR users_seq")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<UserDTO> insert(UserDTO user) {
+        return databaseClient.sql("INSERT INTO users (id, name, email, phone, active, created_at, updated_at) "
+                        + "VALUES (:id, :name, :email, :phone, :active, :createdAt, :updatedAt)")
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("phone", user.getPhone())
+                .bind("active", user.getActive())
+                .bind("createdAt", user.getCreatedAt())
+                .bind("updatedAt", user.getUpdatedAt())
+                .then()
+                .thenReturn(user);
+    }
+
+    /**
+     * Writes name, email and phone. The active flag only changes through {@link #updateActiveById},
+     * so a stale read can never overwrite a concurrent flip.
+     */
+    public Mono<UserDTO> update(UserDTO user) {
+        return databaseClient.sql("UPDATE users SET name = :name, email = :email, phone = :phone, "
+                        + "updated_at = :updatedAt WHERE id = :id")
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("phone", user.getPhone())
+                .bind("updatedAt", user.getUpdatedAt())
+                .then()
+                .thenReturn(user);
+    }
+
+    // Conditional on the current value, so the row count says whether this statement flipped the flag.
+    public Mono<Long> updateActiveById(Long id, Boolean active, long updatedAt) {
+        return databaseClient.sql("UPDATE users SET active = :active, updated_at = :updatedAt "
+                        + "WHERE id = :id AND active <> :active")
+                .bind("id", id)
+                .bind("active", active)
+                .bind("updatedAt", updatedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteByIdAndActive(Long id, Boolean active) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id AND active = :active")
+                .bind("id", id)
+                .bind("active", active)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static UserDTO toDTO(Readable row) {
+        return UserDTO.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .phone(row.get("phone", String.class))
+                .active(row.get("active", Boolean.class))
+                .createdAt(row.get("created_at", Long.class))
+                .updatedAt(row.get("updated_at", Long.class))
+                .build();
+    }
+}
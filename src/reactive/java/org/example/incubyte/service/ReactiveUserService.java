@@ -0,0 +1,151 @@
+package org.example.incubyte.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.DuplicateEmailException;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.example.incubyte.repository.ReactiveUserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link UserService} for the {@code reactive} profile, with the
+ * same duplicate-email and not-found semantics. Change events are published after commit,
+ * so {@link UserStatsService} stays in step with writes from either stack.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<UserDTO> createUser(UserDTO userDTO) {
+        return userRepository.findByEmail(userDTO.getEmail()).hasElement()
+                .flatMap(exists -> exists
+                        ? Mono.<Long>error(duplicateEmail(userDTO.getEmail()))
+                        : userRepository.nextId())
+                .flatMap(id -> {
+                    long now = System.currentTimeMillis();
+                    return userRepository.insert(UserDTO.builder()
+                            .id(id)
+                            .name(userDTO.getName())
+                            .email(userDTO.getEmail())
+                            .phone(userDTO.getPhone())
+                            .active(true)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                })
+                // A concurrent insert of the same email loses on the unique constraint.
+                .onErrorMap(ReactiveUserService::isDuplicateEmail, ex -> duplicateEmail(userDTO.getEmail()))
+                .as(transactionalOperator::transactional)
+                .doOnNext(user -> eventPublisher.publishEvent(UserChangedEvent.created(user)));
+    }
+
+    public Mono<UserDTO> getUserById(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    public Flux<UserDTO> getActiveUsers() {
+        return userRepository.findByActive(true);
+    }
+
+    public Mono<UserPageDTO> getUsersPage(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return Mono.defer(() -> userRepository.findPageAfter(UserCursors.decode(after), pageSize + 1)
+                .collectList()
+                .map(users -> UserCursors.toPage(users, pageSize)));
+    }
+
+    public Mono<UserPageDTO> getActiveUsersPage(String after, int limit) {
+        int pageSize = UserCursors.clampPageSize(limit);
+        return Mono.defer(() -> userRepository.findPageByActiveAfter(true, UserCursors.decode(after), pageSize + 1)
+                .collectList()
+                .map(users -> UserCursors.toPage(users, pageSize)));
+    }
+
+    /**
+     * Emits every user in id order; rows are pulled from the driver as the client consumes them.
+     */
+    public Flux<UserDTO> exportUsers() {
+        return userRepository.findAllOrderById();
+    }
+
+    public Mono<UserDTO> updateUser(Long id, UserDTO userDTO) {
+        Mono<Optional<Boolean>> appliedActive = userDTO.getActive() == null
+                ? Mono.just(Optional.empty())
+                : applyActive(id, userDTO.getActive()).map(Optional::of);
+        return appliedActive.flatMap(applied -> userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(user -> {
+                    Boolean previousActive = applied.orElse(user.getActive());
+
+                    if (userDTO.getName() != null) user.setName(userDTO.getName());
+                    if (userDTO.getPhone() != null) user.setPhone(userDTO.getPhone());
+                    user.setUpdatedAt(System.currentTimeMillis());
+
+                    Mono<Boolean> emailTaken = userDTO.getEmail() != null && !userDTO.getEmail().equals(user.getEmail())
+                            ? userRepository.findByEmail(userDTO.getEmail()).hasElement()
+                            : Mono.just(false);
+                    return emailTaken.flatMap(taken -> {
+                        if (taken) {
+                            return Mono.error(duplicateEmail(userDTO.getEmail()));
+                        }
+                        if (userDTO.getEmail() != null) user.setEmail(userDTO.getEmail());
+                        return userRepository.update(user);
+                    }).map(updated -> UserChangedEvent.updated(updated, previousActive));
+                }))
+                .onErrorMap(ReactiveUserService::isDuplicateEmail, ex -> duplicateEmail(userDTO.getEmail()))
+                .as(transactionalOperator::transactional)
+                .doOnNext(eventPublisher::publishEvent)
+                .map(UserChangedEvent::getUser);
+    }
+
+    public Mono<Void> deleteUser(Long id) {
+        // Same order as UserService: try the common active row first, then tell inactive from missing.
+        return userRepository.deleteByIdAndActive(id, true)
+                .flatMap(deleted -> deleted > 0
+                        ? Mono.just(true)
+                        : userRepository.deleteById(id).flatMap(rows -> rows > 0
+                                ? Mono.just(false)
+                                : Mono.<Boolean>error(notFound(id))))
+                .map(previousActive -> UserChangedEvent.deleted(id, previousActive))
+                .as(transactionalOperator::transactional)
+                .doOnNext(eventPublisher::publishEvent)
+                .then();
+    }
+
+    /**
+     * Sets the active flag with a conditional UPDATE and emits the flag as it was before, like
+     * {@link UserService}: the row count, not an earlier read, says whether this call flipped it.
+     */
+    private Mono<Boolean> applyActive(Long id, Boolean active) {
+        return userRepository.updateActiveById(id, active, System.currentTimeMillis())
+                .map(rows -> rows > 0 ? !active : active);
+    }
+
+    private static boolean isDuplicateEmail(Throwable ex) {
+        return ex instanceof DataIntegrityViolationException violation && DuplicateEmailException.isCause(violation);
+    }
+
+    private static DuplicateEmailException duplicateEmail(String email) {
+        return new DuplicateEmailException("Email already exists: " + email);
+    }
+
+    private static UserNotFoundException notFound(Long id) {
+        return new UserNotFoundException("User not found with id: " + id);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.incubyte.admission;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Admission control end to end for an async handler, with a bucket that holds a single token.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission-async;DB_CLOSE_DELAY=-1",
+        "users.admission.rate-limit.burst=1",
+        "users.admission.rate-limit.requests-per-second=0.001",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("AdmissionControlInterceptor - Async Dispatch Tests")
+class AdmissionControlAsyncTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Should stream /export on a single token, without charging its async re-dispatch")
+    void shouldStreamExportWithBurstOfOne() throws Exception {
+        userService.createUser(UserDTO.builder().name("Admitted").email("admitted@example.com").phone("1234567890").build());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/users/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("\"email\":\"admitted@example.com\""), body);
+        // The export spent the only token.
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.incubyte.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.example.incubyte.exception.ConcurrencyLimitExceededException;
+import org.example.incubyte.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdmissionControlInterceptor - Admission Tests")
+class AdmissionControlInterceptorTests {
+
+    static class Handlers {
+        @ConcurrencyLimited(EndpointClass.LIST)
+        public void list() {
+        }
+
+        @ConcurrencyLimited(EndpointClass.LOOKUP)
+        public void lookup() {
+        }
+
+        public void write() {
+        }
+    }
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new AdmissionControlInterceptor(
+                new ClientRateLimiter(1, 3, 1024),
+                Map.of(EndpointClass.LIST, 1, EndpointClass.LOOKUP, 2),
+                "X-Client-Id",
+                meterRegistry);
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), name);
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+
+    private double count(String limiter, String endpointClass, String outcome) {
+        return meterRegistry.get("users.admission.requests")
+                .tags("limiter", limiter, "class", endpointClass, "outcome", outcome)
+                .counter().count();
+    }
+
+    @Nested
+    @DisplayName("Rate limit")
+    class RateLimit {
+
+        @Test
+        @DisplayName("Should reject a client past its burst with a Retry-After")
+        void shouldRejectPastBurst() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(interceptor.preHandle(request("noisy"), response, handler("write")));
+            }
+
+            RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                    () -> interceptor.preHandle(request("noisy"), response, handler("write")));
+            assertEquals(1, ex.getRetryAfterSeconds());
+            assertEquals(3, count("rate", "all", "admitted"));
+            assertEquals(1, count("rate", "all", "rejected"));
+        }
+
+        @Test
+        @DisplayName("Should not spend a token on the re-dispatch of an async request")
+        void shouldAdmitAsyncDispatchOnce() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                interceptor.preHandle(request("streaming"), response, handler("write"));
+            }
+            MockHttpServletRequest redispatch = request("streaming");
+            redispatch.setDispatcherType(DispatcherType.ASYNC);
+
+            assertTrue(interceptor.preHandle(redispatch, response, handler("write")));
+            assertEquals(3, count("rate", "all", "admitted"));
+            assertEquals(0, count("rate", "all", "rejected"));
+        }
+
+        @Test
+        @DisplayName("Should keep admitting other clients while one is limited")
+        void shouldIsolateClients() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                interceptor.preHandle(request("noisy"), response, handler("write"));
+            }
+
+            assertTrue(interceptor.preHandle(request("quiet"), response, handler("write")));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the remote address without a client header")
+        void shouldUseRemoteAddress() throws Exception {
+            MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/v1/users");
+            first.setRemoteAddr("10.0.0.1");
+            for (int i = 0; i < 3; i++) {
+                interceptor.preHandle(first, response, handler("write"));
+            }
+            MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/v1/users");
+            other.setRemoteAddr("10.0.0.2");
+
+            assertThrows(RateLimitExceededException.class, () -> interceptor.preHandle(first, response, handler("write")));
+            assertTrue(interceptor.preHandle(other, response, handler("write")));
+        }
+
+        @Test
+        @DisplayName("Should ignore client headers unless one is configured")
+        void shouldIgnoreUntrustedClientHeader() throws Exception {
+            AdmissionControlInterceptor untrusted = new AdmissionControlInterceptor(
+                    new ClientRateLimiter(1, 3, 1024),
+                    Map.of(EndpointClass.LIST, 1, EndpointClass.LOOKUP, 2),
+                    "",
+                    new SimpleMeterRegistry());
+            for (int i = 0; i < 3; i++) {
+                assertTrue(untrusted.preHandle(request("rotated-" + i), response, handler("write")));
+            }
+
+            assertThrows(RateLimitExceededException.class,
+                    () -> untrusted.preHandle(request("rotated-3"), response, handler("write")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency limit")
+    class ConcurrencyLimit {
+
+        @Test
+        @DisplayName("Should shed list calls past their limit without touching lookups")
+        void shouldLimitClassesSeparately() throws Exception {
+            MockHttpServletRequest inFlight = request("a");
+            assertTrue(interceptor.preHandle(inFlight, response, handler("list")));
+
+            assertThrows(ConcurrencyLimitExceededException.class,
+                    () -> interceptor.preHandle(request("b"), response, handler("list")));
+            assertTrue(interceptor.preHandle(request("c"), response, handler("lookup")));
+            assertEquals(1, count("concurrency", "list", "rejected"));
+            assertEquals(1, meterRegistry.get("users.admission.in-flight").tag("class", "list").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should release the permit when the request completes")
+        void shouldReleasePermit() throws Exception {
+            MockHttpServletRequest first = request("a");
+            interceptor.preHandle(first, response, handler("list"));
+            interceptor.afterCompletion(first, response, handler("list"), null);
+            interceptor.afterCompletion(first, response, handler("list"), null);
+
+            assertTrue(interceptor.preHandle(request("b"), response, handler("list")));
+            assertEquals(1, meterRegistry.get("users.admission.in-flight").tag("class", "list").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should hold an async request's permit until its re-dispatch completes")
+        void shouldHoldPermitAcrossAsyncDispatch() throws Exception {
+            MockHttpServletRequest streaming = request("a");
+            interceptor.preHandle(streaming, response, handler("list"));
+            streaming.setDispatcherType(DispatcherType.ASYNC);
+
+            assertTrue(interceptor.preHandle(streaming, response, handler("list")));
+            assertEquals(1, meterRegistry.get("users.admission.in-flight").tag("class", "list").gauge().value());
+            interceptor.afterCompletion(streaming, response, handler("list"), null);
+            assertEquals(0, meterRegistry.get("users.admission.in-flight").tag("class", "list").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should not hold a permit for unannotated handlers")
+        void shouldSkipUnannotatedHandlers() throws Exception {
+            MockHttpServletRequest request = request("a");
+            interceptor.preHandle(request, response, handler("write"));
+            interceptor.afterCompletion(request, response, handler("write"), null);
+
+            assertEquals(0, meterRegistry.get("users.admission.in-flight").tag("class", "list").gauge().value());
+            assertEquals(0, meterRegistry.get("users.admission.in-flight").tag("class", "lookup").gauge().value());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.incubyte.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClientRateLimiter - Token Bucket Tests")
+class ClientRateLimiterTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+
+    @Test
+    @DisplayName("Should admit a full burst and then reject with the time to the next token")
+    void shouldAdmitBurstThenReject() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 5, 1024, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a"), "request " + i);
+        }
+        long wait = limiter.tryAcquire("client-a");
+        assertTrue(wait > 0 && wait <= SECOND / 10, "wait " + wait);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens at the configured rate")
+    void shouldRefill() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 1024, clock::get);
+        assertEquals(0, limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+
+        clock.addAndGet(SECOND / 10);
+
+        assertEquals(0, limiter.tryAcquire("client-a"));
+    }
+
+    @Test
+    @DisplayName("Should not let an idle client bank more than one burst")
+    void shouldCapBurstAfterIdle() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 3, 1024, clock::get);
+        clock.addAndGet(60 * SECOND);
+
+        int admitted = 0;
+        while (limiter.tryAcquire("client-a") == 0) {
+            admitted++;
+        }
+        assertEquals(3, admitted);
+    }
+
+    @Test
+    @DisplayName("Should keep separate budgets for different clients")
+    void shouldIsolateClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 1 << 16, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("noisy"));
+        assertTrue(limiter.tryAcquire("noisy") > 0);
+        assertEquals(0, limiter.tryAcquire("quiet"));
+    }
+
+    @Test
+    @DisplayName("Should admit exactly one burst under concurrent callers")
+    void shouldAdmitBurstUnderContention() throws Exception {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 100, 1024, clock::get);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    int admitted = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire("shared") == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertEquals(100, total);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive settings")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter(0, 1, 16));
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter(1, 0, 16));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.incubyte.benchmark;
+
+import org.example.incubyte.IncubyteApplication;
+import org.example.incubyte.dto.BulkCreateRequestDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserBulkService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared setup for benchmarks that need the real service stack on an embedded H2.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Starts the application without a web server on a private in-memory database.
+     */
+    static ConfigurableApplicationContext startContext(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(IncubyteApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    static UserDTO newUser(String prefix, long n) {
+        return UserDTO.builder()
+                .name("Bench User " + n)
+                .email(prefix + n + "@bench.example.com")
+                .phone("555" + n)
+                .build();
+    }
+
+    static List<UserDTO> newUsers(String prefix, long from, int count) {
+        List<UserDTO> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser(prefix, from + i));
+        }
+        return users;
+    }
+
+    static void seed(UserBulkService userBulkService, int count) {
+        for (int from = 0; from < count; from += BulkCreateRequestDTO.MAX_USERS) {
+            userBulkService.createUsers(newUsers("seed", from, Math.min(BulkCreateRequestDTO.MAX_USERS, count - from)));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.incubyte.benchmark;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserBulkService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only throughput of uncached id lookups under the {@code replica} profile as the number
+ * of replicas grows; {@code replicas=0} keeps every read on the primary.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class ReplicaReadBenchmark {
+
+    @Param({"0", "1", "2", "4"})
+    public int replicas;
+
+    @Param({"10000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = BenchmarkSupport.startContext(Map.of(
+                "spring.profiles.active", "replica",
+                "users.replica.count", replicas,
+                "users.replica.lag", "0ms"));
+        userRepository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        BenchmarkSupport.seed(context.getBean(UserBulkService.class), users);
+        // Let the replicas apply the seeded rows before measuring.
+        while (readOnlyTransaction.execute(status -> userRepository.findDtoById((long) users)).isEmpty()) {
+            Thread.sleep(100);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDTO readById() {
+        long id = ThreadLocalRandom.current().nextLong(1, users + 1);
+        return readOnlyTransaction.execute(status -> userRepository.findDtoById(id).orElseThrow());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.incubyte.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserDTOSerializer;
+import org.example.incubyte.entity.User;
+import org.example.incubyte.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON encoding of user payloads, without any I/O.
+ * Run with {@code -prof gc} to see bytes allocated per operation; {@code serializeUserList}
+ * against {@code serializeUserListReflective} isolates the hand-written {@link UserDTOSerializer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private User user;
+    private UserDTO userDTO;
+    private List<UserDTO> userDTOs;
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveObjectMapper;
+
+    @Setup
+    public void setUp() {
+        long now = System.currentTimeMillis();
+        user = User.builder()
+                .id(42L).name("Jane Doe").email("jane.doe@example.com").phone("5551234567")
+                .active(true).createdAt(now).updatedAt(now)
+                .build();
+        userDTO = UserService.mapToDTO(user);
+        userDTOs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            userDTOs.add(UserDTO.builder()
+                    .id((long) i).name("User " + i).email("user" + i + "@example.com").phone("555" + i)
+                    .active(i % 2 == 0).createdAt(now).updatedAt(now)
+                    .build());
+        }
+        // Same defaults Spring Boot applies to its auto-configured ObjectMapper, which also
+        // registers the @JsonComponent serializer; the reflective mapper is the baseline.
+        objectMapper = Jackson2ObjectMapperBuilder.json().serializerByType(UserDTO.class, new UserDTOSerializer()).build();
+        reflectiveObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public UserDTO mapToDTO() {
+        return UserService.mapToDTO(user);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userDTO);
+    }
+
+    @Benchmark
+    public byte[] serializeUserList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userDTOs);
+    }
+
+    @Benchmark
+    public byte[] serializeUserListReflective() throws JsonProcessingException {
+        return reflectiveObjectMapper.writeValueAsBytes(userDTOs);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.incubyte.benchmark;
+
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.service.UserSearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Substring search: the in-memory trigram index (with and without loading the page from H2)
+ * against the {@code LIKE '%q%'} scan it replaces. Queries are selective seeded emails.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class UserSearchBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"100000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private UserSearchService userSearchService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext(Map.of());
+        userSearchService = context.getBean(UserSearchService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkSupport.seed(context.getBean(UserBulkService.class), users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomQuery() {
+        return "seed" + ThreadLocalRandom.current().nextInt(users) + "@";
+    }
+
+    @Benchmark
+    public UserPageDTO indexSearch() {
+        return userSearchService.search(randomQuery(), null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> likeScan() {
+        String pattern = "%" + randomQuery() + "%";
+        return jdbcTemplate.queryForList(
+                "select id from users where lower(name) like ? or lower(email) like ? order by id limit " + PAGE_SIZE,
+                Long.class, pattern, pattern);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.incubyte.benchmark;
+
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserService against a real H2. Each benchmark runs in its own fork, so write
+ * benchmarks never grow the table seen by the read benchmarks.
+ *
+ * <ul>
+ *   <li>{@code createUser} vs {@code bulkCreate}: rows/sec of the single and batched insert paths.</li>
+ *   <li>{@code *ViaEntity} vs projection: cost of hydrating managed entities on read paths.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    private static final int BULK_BATCH = 100;
+
+    @Param({"1000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserBulkService userBulkService;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext(Map.of());
+        userService = context.getBean(UserService.class);
+        userBulkService = context.getBean(UserBulkService.class);
+        userRepository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        BenchmarkSupport.seed(userBulkService, users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1);
+    }
+
+    @Benchmark
+    public UserDTO createUser() {
+        return userService.createUser(BenchmarkSupport.newUser("single", sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_BATCH)
+    public BulkCreateResponseDTO bulkCreate() {
+        return userBulkService.createUsers(
+                BenchmarkSupport.newUsers("bulk", sequence.getAndAdd(BULK_BATCH), BULK_BATCH));
+    }
+
+    @Benchmark
+    public UserDTO getUserById() {
+        return userService.getUserById(randomId());
+    }
+
+    @Benchmark
+    public UserDTO getUserByIdUncached() {
+        long id = randomId();
+        return readOnlyTransaction.execute(status -> userRepository.findDtoById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public UserDTO getUserByIdViaEntity() {
+        long id = randomId();
+        return readOnlyTransaction.execute(status -> UserService.mapToDTO(userRepository.findById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public List<UserDTO> getAllUsers() {
+        return userService.getAllUsers();
+    }
+
+    @Benchmark
+    public List<UserDTO> getAllUsersViaEntity() {
+        return readOnlyTransaction.execute(status -> userRepository.findAll().stream()
+                .map(UserService::mapToDTO)
+                .toList());
+    }
+}
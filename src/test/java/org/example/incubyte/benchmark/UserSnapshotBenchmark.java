@@ -0,0 +1,86 @@
+package org.example.incubyte.benchmark;
+
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.snapshot.UserSnapshotStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load a populated users table into an empty database: the binary
+ * {@link UserSnapshotStore} against replaying an H2 {@code SCRIPT} dump with {@code RUNSCRIPT}.
+ * Each invocation restores into a fresh in-memory database holding only the schema.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class UserSnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int users;
+
+    private Path dir;
+    private Path snapshot;
+    private Path script;
+    private List<String> schema;
+    private SingleConnectionDataSource target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("user-snapshot-bench");
+        snapshot = dir.resolve("users.snapshot");
+        script = dir.resolve("users.sql");
+        try (ConfigurableApplicationContext context = BenchmarkSupport.startContext(Map.of())) {
+            BenchmarkSupport.seed(context.getBean(UserBulkService.class), users);
+            DataSource dataSource = context.getBean(DataSource.class);
+            new UserSnapshotStore(dataSource, snapshot, false).write();
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("script to '" + script + "'");
+            schema = jdbc.queryForList("script nodata", String.class);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void newTarget() {
+        target = new SingleConnectionDataSource(
+                "jdbc:h2:mem:restore-" + UUID.randomUUID(), "sa", "sa", true);
+    }
+
+    @TearDown(Level.Invocation)
+    public void dropTarget() {
+        new JdbcTemplate(target).execute("shutdown");
+        target.destroy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(script);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public long restoreSnapshot() {
+        JdbcTemplate jdbc = new JdbcTemplate(target);
+        schema.forEach(jdbc::execute);
+        return new UserSnapshotStore(target, snapshot, false).restore();
+    }
+
+    @Benchmark
+    public void runScript() {
+        new JdbcTemplate(target).execute("runscript from '" + script + "'");
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.incubyte.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.incubyte.dto.AsyncCreateStatusDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserWriteBehindService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synchronous creates (one transaction and commit each) against write-behind creates
+ * measured until their batch has committed, under concurrent callers.
+ * <p>
+ * Throughput is creates/sec; sample mode reports p50/p99/p999 per create. Commits/sec for the
+ * write-behind path is printed at the end of each trial from the {@code users.async-create.commits}
+ * counter; for the synchronous path it equals creates/sec.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class UserWriteBehindBenchmark {
+
+    private static final Duration AWAIT = Duration.ofSeconds(30);
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserWriteBehindService userWriteBehindService;
+    private MeterRegistry meterRegistry;
+    private final AtomicLong sequence = new AtomicLong();
+    private long trialStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext(Map.of());
+        userService = context.getBean(UserService.class);
+        userWriteBehindService = context.getBean(UserWriteBehindService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+        trialStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        double commits = meterRegistry.counter("users.async-create.commits").count();
+        double seconds = (System.nanoTime() - trialStart) / 1e9;
+        if (commits > 0) {
+            System.out.printf("%nwrite-behind: %.0f commits in %.1fs (%.1f commits/sec)%n", commits, seconds, commits / seconds);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public UserDTO syncCreate() {
+        return userService.createUser(BenchmarkSupport.newUser("sync", sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public AsyncCreateStatusDTO writeBehindCreate() {
+        AsyncCreateStatusDTO accepted = userWriteBehindService.submit(
+                BenchmarkSupport.newUser("async", sequence.incrementAndGet()));
+        return userWriteBehindService.getStatus(accepted.getTrackingId(), AWAIT).orElseThrow();
+    }
+}
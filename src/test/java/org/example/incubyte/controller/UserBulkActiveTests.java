@@ -0,0 +1,81 @@
+package org.example.incubyte.controller;
+
+import org.example.incubyte.dto.BulkActiveRequestDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-bulk-active;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("UserController - Bulk Activate/Deactivate Tests")
+class UserBulkActiveTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private UserDTO createUser(String email) {
+        return userService.createUser(UserDTO.builder().name("Bulk Active").email(email).phone("1234567890").build());
+    }
+
+    private ResultActions updateActive(String body) throws Exception {
+        return mockMvc.perform(post("/api/v1/users/bulk/active").contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    @Test
+    @DisplayName("Should deactivate by ids and by createdBefore, counting only changed users")
+    void shouldUpdateActiveFlags() throws Exception {
+        UserDTO first = createUser("bulk-active-1@example.com");
+        UserDTO second = createUser("bulk-active-2@example.com");
+
+        updateActive("{\"active\":false,\"ids\":[" + first.getId() + "]}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+        updateActive("{\"active\":false,\"createdBefore\":" + (System.currentTimeMillis() + 1) + "}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertFalse(userService.getUserById(second.getId()).getActive());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty id list with 400")
+    void shouldRejectEmptyIds() throws Exception {
+        updateActive("{\"active\":false,\"ids\":[]}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.ids").exists());
+    }
+
+    @Test
+    @DisplayName("Should reject more ids than the limit with 400")
+    void shouldRejectTooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, BulkActiveRequestDTO.MAX_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        updateActive("{\"active\":false,\"ids\":[" + ids + "]}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.ids").exists());
+    }
+}
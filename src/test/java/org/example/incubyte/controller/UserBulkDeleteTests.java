@@ -0,0 +1,63 @@
+package org.example.incubyte.controller;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.LongStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-bulk-delete;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("UserController - Bulk Delete Tests")
+class UserBulkDeleteTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private Long createUser(String email) {
+        return userService.createUser(UserDTO.builder().name("Bulk Delete").email(email).phone("1234567890").build())
+                .getId();
+    }
+
+    @Test
+    @DisplayName("Should delete existing users and report missing ids")
+    void shouldDeleteListedUsers() throws Exception {
+        Long first = createUser("bulk-delete-1@example.com");
+        Long second = createUser("bulk-delete-2@example.com");
+
+        mockMvc.perform(delete("/api/v1/users")
+                        .param("ids", first.toString(), second.toString(), String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.missingIds[0]").value(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should reject more ids than the limit with 400")
+    void shouldRejectTooManyIds() throws Exception {
+        String[] ids = LongStream.rangeClosed(1, UserBulkService.MAX_DELETE_IDS + 1)
+                .mapToObj(String::valueOf)
+                .toArray(String[]::new);
+
+        mockMvc.perform(delete("/api/v1/users").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.ids").value("At most " + UserBulkService.MAX_DELETE_IDS + " ids per request"));
+    }
+}
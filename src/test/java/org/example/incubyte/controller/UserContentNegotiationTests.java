@@ -0,0 +1,116 @@
+package org.example.incubyte.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-content-negotiation;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("UserController - Content Negotiation Tests")
+class UserContentNegotiationTests {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private UserDTO createUser(String email) {
+        return userService.createUser(UserDTO.builder().name("Negotiated").email(email).phone("1234567890").build());
+    }
+
+    private UserDTO fetch(Long id, MediaType accept, ObjectMapper mapper) throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/users/" + id).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(accept))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getContentAsByteArray();
+        return mapper.readValue(body, UserDTO.class);
+    }
+
+    @Test
+    @DisplayName("Should encode a user as CBOR or Smile when asked, with the same fields as JSON")
+    void shouldEncodeBinaryFormats() throws Exception {
+        UserDTO user = createUser("binary@example.com");
+
+        assertEquals(user, fetch(user.getId(), CBOR, cborMapper));
+        assertEquals(user, fetch(user.getId(), SMILE, smileMapper));
+    }
+
+    @Test
+    @DisplayName("Should decode CBOR and Smile request bodies")
+    void shouldDecodeBinaryFormats() throws Exception {
+        byte[] cbor = cborMapper.writeValueAsBytes(
+                UserDTO.builder().name("From Cbor").email("from-cbor@example.com").phone("1234567890").build());
+        byte[] smile = smileMapper.writeValueAsBytes(
+                UserDTO.builder().name("From Smile").email("from-smile@example.com").phone("1234567890").build());
+
+        mockMvc.perform(post("/api/v1/users").contentType(CBOR).content(cbor).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("from-cbor@example.com"));
+        mockMvc.perform(post("/api/v1/users").contentType(SMILE).content(smile).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("from-smile@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should answer JSON for */* and for no Accept header")
+    void shouldDefaultToJson() throws Exception {
+        UserDTO user = createUser("default-json@example.com");
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId()).accept(MediaType.ALL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.email").value("default-json@example.com"));
+        mockMvc.perform(get("/api/v1/users/" + user.getId()))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should send Vary: Accept from every negotiated read and the bulk create")
+    void shouldVaryByAccept() throws Exception {
+        createUser("vary@example.com");
+
+        mockMvc.perform(get("/api/v1/users").accept(CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(get("/api/v1/users/search").param("q", "negotiated"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(get("/api/v1/users/stats").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(post("/api/v1/users/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"users\":[{\"name\":\"Bulk\",\"email\":\"vary-bulk@example.com\",\"phone\":\"1234567890\"}]}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.incubyte.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserBulkService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-export;DB_CLOSE_DELAY=-1",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("UserController - NDJSON Export Tests")
+class UserExportTests {
+
+    private static final int USERS = 2500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should stream every user as one JSON object per line, in id order")
+    void shouldExportNdjson() throws Exception {
+        List<UserDTO> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(UserDTO.builder().name("Export " + i).email("export" + i + "@example.com").phone("555" + i).build());
+        }
+        for (int from = 0; from < USERS; from += 1000) {
+            userBulkService.createUsers(users.subList(from, Math.min(from + 1000, USERS)));
+        }
+
+        MvcResult started = mockMvc.perform(get("/api/v1/users/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // The long timeout belongs to the export alone, not to every async handler.
+        assertEquals(Duration.ofHours(1).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(USERS, lines.length);
+        long previousId = 0;
+        for (int i = 0; i < lines.length; i++) {
+            UserDTO user = objectMapper.readValue(lines[i], UserDTO.class);
+            assertTrue(user.getId() > previousId, "ids must ascend");
+            assertEquals("export" + i + "@example.com", user.getEmail());
+            previousId = user.getId();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.incubyte.controller;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-patch;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@DisplayName("UserController - PATCH Validation Tests")
+class UserPatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private UserDTO createUser(String email) {
+        return userService.createUser(UserDTO.builder().name("Patch User").email(email).phone("1234567890").build());
+    }
+
+    private ResultActions patchUser(Long id, String body) throws Exception {
+        return mockMvc.perform(patch("/api/v1/users/" + id).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    @Test
+    @DisplayName("Should apply a valid partial update")
+    void shouldPatchValidFields() throws Exception {
+        UserDTO user = createUser("patch-valid@example.com");
+
+        patchUser(user.getId(), "{\"name\":\"Patched\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Patched"))
+                .andExpect(jsonPath("$.email").value("patch-valid@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid email with 400")
+    void shouldRejectInvalidEmail() throws Exception {
+        UserDTO user = createUser("patch-invalid@example.com");
+
+        patchUser(user.getId(), "{\"email\":\"not-an-email\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.email").exists());
+        assertEquals("patch-invalid@example.com", userService.getUserById(user.getId()).getEmail());
+    }
+
+    @Test
+    @DisplayName("Should reject blank fields with 400")
+    void shouldRejectBlankFields() throws Exception {
+        UserDTO user = createUser("patch-blank@example.com");
+
+        patchUser(user.getId(), "{\"name\":\"  \",\"email\":\"\",\"phone\":\"\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.name").exists())
+                .andExpect(jsonPath("$.email").exists())
+                .andExpect(jsonPath("$.phone").exists());
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when the email belongs to another user")
+    void shouldRejectTakenEmail() throws Exception {
+        createUser("patch-taken@example.com");
+        UserDTO user = createUser("patch-other@example.com");
+
+        patchUser(user.getId(), "{\"email\":\"patch-taken@example.com\"}")
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.incubyte.datasource;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replica routing against a lagging local H2 replica.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing-primary;DB_CLOSE_DELAY=-1",
+        "users.replica.lag=500ms",
+        "logging.level.root=WARN"
+})
+@ActiveProfiles("replica")
+@DisplayName("Replica routing - Read/Write Split Tests")
+class ReplicaRoutingTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        PrimaryReads.clear();
+    }
+
+    private Optional<UserDTO> readOnly(Long id) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> userRepository.findDtoById(id));
+    }
+
+    private UserDTO createUser(String email) {
+        return userService.createUser(UserDTO.builder().name("Replica User").email(email).phone("1234567890").build());
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica, which trails the primary")
+    void shouldReadFromLaggingReplica() throws InterruptedException {
+        UserDTO created = createUser("lagging@example.com");
+
+        assertTrue(readOnly(created.getId()).isEmpty());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (readOnly(created.getId()).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("lagging@example.com", readOnly(created.getId()).orElseThrow().getEmail());
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while primary reads are forced")
+    void shouldReadOwnWritesFromPrimary() {
+        UserDTO created = createUser("own-write@example.com");
+
+        PrimaryReads.force();
+
+        assertTrue(readOnly(created.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not cache a stale replica row over a write")
+    void shouldNotCacheStaleReplicaReads() throws InterruptedException {
+        UserDTO created = createUser("cached@example.com");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (readOnly(created.getId()).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        userService.getUserById(created.getId());
+
+        userService.updateUser(created.getId(), UserDTO.builder()
+                .name("Renamed").email("cached@example.com").phone("1234567890").active(true).build());
+        assertEquals("Replica User", readOnly(created.getId()).orElseThrow().getName());
+
+        // Another client's read misses the cache while the replica still has the old row
+        assertEquals("Renamed", userService.getUserById(created.getId()).getName());
+        PrimaryReads.force();
+        assertEquals("Renamed", userService.getUserById(created.getId()).getName());
+    }
+}
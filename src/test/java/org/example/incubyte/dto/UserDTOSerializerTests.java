@@ -0,0 +1,60 @@
+package org.example.incubyte.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserDTOSerializer - Output Compatibility Tests")
+class UserDTOSerializerTests {
+
+    private final ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+            .serializerByType(UserDTO.class, new UserDTOSerializer()).build();
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("Should write the same JSON as the reflective serializer")
+    void shouldMatchReflectiveJson() throws Exception {
+        UserDTO user = new UserDTO(1L, "Jane \"JD\" Doe", "jane@example.com", "555", true, 10L, 20L);
+
+        assertEquals(reflective.writeValueAsString(user), handWritten.writeValueAsString(user));
+    }
+
+    @Test
+    @DisplayName("Should write nulls like the reflective serializer")
+    void shouldMatchReflectiveJsonWithNulls() throws Exception {
+        UserDTO user = UserDTO.builder().name("Jane").build();
+
+        assertEquals(reflective.writeValueAsString(List.of(user)), handWritten.writeValueAsString(List.of(user)));
+    }
+
+    @Test
+    @DisplayName("Should write every UserDTO property, so a new field cannot be dropped silently")
+    void shouldWriteEveryProperty() throws Exception {
+        List<String> properties = reflective.getSerializationConfig()
+                .introspect(reflective.constructType(UserDTO.class))
+                .findProperties().stream()
+                .map(property -> property.getName())
+                .toList();
+        List<String> written = new ArrayList<>();
+        handWritten.readTree(handWritten.writeValueAsString(new UserDTO())).fieldNames().forEachRemaining(written::add);
+
+        assertEquals(properties, written);
+    }
+
+    @Test
+    @DisplayName("Should round-trip through a binary format")
+    void shouldRoundTripCbor() throws Exception {
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())
+                .serializerByType(UserDTO.class, new UserDTOSerializer()).build();
+        UserDTO user = new UserDTO(1L, "Jane", "jane@example.com", "555", false, 10L, null);
+
+        assertEquals(user, cbor.readValue(cbor.writeValueAsBytes(user), UserDTO.class));
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.incubyte.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.incubyte.loadtest.LoadTestSettings.Operation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a weighted request mix against one running instance of the user API.
+ * <p>
+ * Seeded users are only read and updated; deletes consume users created during the run,
+ * so every request is expected to succeed. Each client is a virtual thread, which keeps
+ * thousand-connection runs cheap on the driver side.
+ */
+class LoadDriver {
+
+    private static final String JSON = "application/json";
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    // Virtual-thread executor: the client's default cached pool would add platform threads to server thread counts.
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final ConcurrentLinkedQueue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final List<Long> seededIds = new ArrayList<>();
+    private volatile boolean running;
+
+    LoadDriver(int port, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUrl = "http://localhost:" + port + "/api/v1/users";
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    void seedUsers() throws IOException, InterruptedException {
+        for (int from = 0; from < settings.seedUsers(); from += 1000) {
+            StringBuilder body = new StringBuilder("{\"users\":[");
+            for (int i = from; i < Math.min(from + 1000, settings.seedUsers()); i++) {
+                body.append(i == from ? "" : ",").append(userJson("seed" + i));
+            }
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/bulk"))
+                    .header("Content-Type", JSON)
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append("]}").toString())));
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed: " + response.body());
+            }
+            for (JsonNode result : objectMapper.readTree(response.body()).get("results")) {
+                seededIds.add(result.get("user").get("id").asLong());
+            }
+        }
+    }
+
+    /**
+     * Uses users seeded out of band, for stacks that do not expose {@code /bulk}.
+     */
+    void useSeededUsers(List<Long> ids) {
+        seededIds.addAll(ids);
+    }
+
+    /**
+     * Runs warm-up then measurement and returns the seconds actually measured.
+     */
+    double run() throws InterruptedException {
+        running = true;
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < settings.clients(); i++) {
+            clients.submit(this::clientLoop);
+        }
+        Thread.sleep(settings.warmup().toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        long measureStart = System.nanoTime();
+        Thread.sleep(settings.duration().toMillis());
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        running = false;
+        clients.shutdown();
+        if (!clients.awaitTermination(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Clients did not stop");
+        }
+        return elapsedSeconds;
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    void printReport(String title, double elapsedSeconds) {
+        System.out.printf("%n%s: %d clients, %.1fs measured%n", title, settings.clients(), elapsedSeconds);
+        System.out.printf("%-8s %10s %10s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        stats.forEach((operation, s) -> System.out.printf("%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                operation.name().toLowerCase(), s.count(), s.count() / elapsedSeconds,
+                s.percentileMillis(50), s.percentileMillis(99), s.percentileMillis(99.9), s.maxMillis(), s.errors()));
+    }
+
+    private void clientLoop() {
+        int totalWeight = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+        while (running) {
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (Map.Entry<Operation, Integer> entry : settings.mix().entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    execute(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    private void execute(Operation operation) {
+        Long deletableId = null;
+        if (operation == Operation.DELETE) {
+            deletableId = deletableIds.poll();
+            if (deletableId == null) {
+                // Nothing created yet: fall back to a create so the mix keeps its shape, and record
+                // it as a create so the delete histogram only holds deletes.
+                operation = Operation.CREATE;
+            }
+        }
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = switch (operation) {
+                case CREATE -> create();
+                case GET -> send(HttpRequest.newBuilder(uri("/" + randomSeededId())).GET()).statusCode() == 200;
+                case UPDATE -> send(HttpRequest.newBuilder(uri("/" + randomSeededId()))
+                        .header("Content-Type", JSON)
+                        .PUT(HttpRequest.BodyPublishers.ofString(userJson("upd" + emailSequence.incrementAndGet()))))
+                        .statusCode() == 200;
+                case DELETE -> send(HttpRequest.newBuilder(uri("/" + deletableId)).DELETE()).statusCode() == 204;
+                case LIST -> send(HttpRequest.newBuilder(uri("?limit=50")).GET()).statusCode() == 200;
+            };
+        } catch (IOException ex) {
+            success = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.get(operation).record(start, success);
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(""))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(userJson("new" + emailSequence.incrementAndGet()))));
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        deletableIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        return true;
+    }
+
+    private long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private String userJson(String key) {
+        return "{\"name\":\"Load " + key + "\",\"email\":\"" + key + "@load.example.com\",\"phone\":\"5550000\"}";
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.incubyte.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load-test knobs, read from system properties so they can be set on the Maven command line,
+ * e.g. {@code mvn -Pload-test test -Dloadtest.clients=64 -Dloadtest.mix=get=80,list=20}.
+ */
+record LoadTestSettings(int clients, Duration warmup, Duration duration, int seedUsers,
+                        double tolerance, Map<Operation, Integer> mix) {
+
+    enum Operation {
+        CREATE, GET, UPDATE, DELETE, LIST
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.clients", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 5L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 20L)),
+                Integer.getInteger("loadtest.seed-users", 1000),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25")),
+                parseMix(System.getProperty("loadtest.mix", "create=10,get=55,update=10,delete=5,list=20")));
+    }
+
+    LoadTestSettings withClients(int clients) {
+        return new LoadTestSettings(clients, warmup, duration, seedUsers, tolerance, mix);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.incubyte.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples live platform threads and post-GC retained heap while a load run is in flight.
+ * <p>
+ * Retained heap is read from each heap pool's usage after its last collection, which
+ * filters out short-lived garbage and leaves what in-flight requests actually hold.
+ * Driver and server share the JVM, so both figures include the driver's own footprint.
+ * That footprint is identical across stacks, so compare the stacks by their deltas.
+ */
+class ResourceSampler implements AutoCloseable {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final int idleThreads;
+    private final long idleRetainedBytes;
+    private volatile int peakThreads;
+    private volatile long peakRetainedBytes;
+
+    private ResourceSampler() {
+        System.gc();
+        idleThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        idleRetainedBytes = retainedHeapBytes();
+    }
+
+    static ResourceSampler start() {
+        ResourceSampler sampler = new ResourceSampler();
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, 100, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    int idleThreads() {
+        return idleThreads;
+    }
+
+    int peakThreads() {
+        return peakThreads;
+    }
+
+    double retainedKilobytesPerRequest(int inFlight) {
+        return Math.max(0, peakRetainedBytes - idleRetainedBytes) / 1024.0 / inFlight;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+        peakRetainedBytes = Math.max(peakRetainedBytes, retainedHeapBytes());
+    }
+
+    private static long retainedHeapBytes() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                used += afterGc.getUsed();
+            }
+        }
+        return used;
+    }
+}
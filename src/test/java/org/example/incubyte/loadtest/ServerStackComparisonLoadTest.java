@@ -0,0 +1,119 @@
+package org.example.incubyte.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.incubyte.IncubyteApplication;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.loadtest.LoadTestSettings.Operation;
+import org.example.incubyte.service.UserBulkService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the same high-concurrency mix against three server stacks and prints their reports
+ * side by side. The stacks are servlet on platform threads, servlet on virtual threads
+ * ({@code virtual-threads}) and WebFlux with R2DBC ({@code reactive}). Alongside
+ * throughput, it reports peak platform threads and post-GC heap retained per in-flight
+ * request. The reactive stack is only built, and so only measured, with the reactive Maven
+ * profile: {@code mvn -Pload-test,reactive test}.
+ * <p>
+ * Defaults to 1000 concurrent connections ({@code -Dloadtest.comparison.clients}). Add
+ * {@code -DargLine=-Djdk.tracePinnedThreads=short} to log carrier-thread pinning.
+ */
+@Tag("load")
+@DisplayName("User API - Server Stack Load Comparison")
+class ServerStackComparisonLoadTest {
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties()
+            .withClients(Integer.getInteger("loadtest.comparison.clients", 1000));
+
+    @Test
+    @DisplayName("Should serve 1k+ concurrent connections on every stack and report throughput, threads and memory")
+    void shouldCompareServerStacks() throws Exception {
+        Map<String, StackResult> results = new LinkedHashMap<>();
+        results.put("platform threads", runAgainst("default"));
+        results.put("virtual threads", runAgainst("virtual-threads"));
+        if (ClassUtils.isPresent("org.example.incubyte.controller.ReactiveUserController", null)) {
+            results.put("reactive", runAgainst("reactive"));
+        } else {
+            System.out.println("Reactive stack not on the classpath; rerun with -Preactive to include it.");
+        }
+
+        System.out.printf("%nServer stacks at %d concurrent connections:%n", settings.clients());
+        System.out.printf("  %-17s %10s %13s %13s %18s%n",
+                "stack", "req/s", "idle threads", "peak threads", "retained KB/req");
+        results.forEach((stack, r) -> System.out.printf("  %-17s %10.1f %13d %13d %18.1f%n",
+                stack, r.throughput(), r.idleThreads(), r.peakThreads(), r.retainedKilobytesPerRequest()));
+    }
+
+    private StackResult runAgainst(String profile) throws Exception {
+        String database = "cmp-" + UUID.randomUUID();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(IncubyteApplication.class)
+                .profiles(profile)
+                // Command-line args, unlike builder properties, take precedence over application.properties.
+                .run("--server.port=0",
+                        "--server.tomcat.max-connections=10000",
+                        "--server.tomcat.accept-count=2000",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database,
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + database,
+                        // Every client shares one address; admission control would shed the load being measured.
+                        "--users.admission.enabled=false",
+                        "--logging.level.root=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(port, settings, context.getBean(ObjectMapper.class));
+            driver.useSeededUsers(seedUsers(context.getBean(UserBulkService.class)));
+
+            try (ResourceSampler sampler = ResourceSampler.start()) {
+                double elapsedSeconds = driver.run();
+                driver.printReport("Profile '" + profile + "'", elapsedSeconds);
+
+                long requests = 0;
+                for (Operation operation : Operation.values()) {
+                    EndpointStats stats = driver.stats().get(operation);
+                    assertEquals(0, stats.errors(), operation + " requests failed under profile " + profile);
+                    requests += stats.count();
+                }
+                return new StackResult(requests / elapsedSeconds, sampler.idleThreads(), sampler.peakThreads(),
+                        sampler.retainedKilobytesPerRequest(settings.clients()));
+            }
+        }
+    }
+
+    /**
+     * Seeds through the service rather than {@code /bulk}, which the reactive API does not expose.
+     */
+    private List<Long> seedUsers(UserBulkService bulkService) {
+        List<Long> ids = new ArrayList<>();
+        for (int from = 0; from < settings.seedUsers(); from += 1000) {
+            List<UserDTO> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 1000, settings.seedUsers()); i++) {
+                batch.add(UserDTO.builder()
+                        .name("Load seed" + i)
+                        .email("seed" + i + "@load.example.com")
+                        .phone("5550000")
+                        .build());
+            }
+            for (BulkCreateResponseDTO.Result result : bulkService.createUsers(batch).getResults()) {
+                ids.add(result.getUser().getId());
+            }
+        }
+        return ids;
+    }
+
+    private record StackResult(double throughput, int idleThreads, int peakThreads,
+                               double retainedKilobytesPerRequest) {
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.incubyte.loadtest;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.sharding.ShardedUserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write throughput of {@link ShardedUserRepository} over 1, 2, 4 and 8 in-memory H2 shards,
+ * with writers scaled alongside the shards. Excluded from the default build; run with
+ * {@code mvn -Pload-test test -Dtest=ShardedWriteScalingLoadTest}.
+ * <p>
+ * Prints creates/sec and the speed-up over one shard. Scaling stays close to linear while
+ * there are cores to spare; all shards share this JVM, so expect it to flatten at the core count.
+ * Up to the core count the speed-up must reach {@code loadtest.min-scaling-efficiency} (default
+ * 0.5) times the shard count, or the test fails.
+ */
+@Tag("load")
+@DisplayName("Sharded store - Write Scaling Load Test")
+class ShardedWriteScalingLoadTest {
+
+    private static final int WRITERS_PER_SHARD = 2;
+    private static final long DURATION_MILLIS = Long.getLong("loadtest.duration", 10) * 1000;
+    private static final double MIN_EFFICIENCY =
+            Double.parseDouble(System.getProperty("loadtest.min-scaling-efficiency", "0.5"));
+
+    @Test
+    @DisplayName("Should scale creates with the number of shards")
+    void shouldScaleWritesWithShards() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        double baseline = 0;
+        for (int shards : new int[]{1, 2, 4, 8}) {
+            double throughput = measure(shards);
+            if (shards == 1) {
+                baseline = throughput;
+            }
+            double speedUp = throughput / baseline;
+            System.out.printf("%d shard(s): %.0f creates/sec (x%.2f)%n", shards, throughput, speedUp);
+            assertTrue(throughput > 0);
+            if (shards <= cores) {
+                assertTrue(speedUp >= MIN_EFFICIENCY * shards, String.format(
+                        "%d shards on %d cores scaled only x%.2f over one shard; expected at least x%.2f",
+                        shards, cores, speedUp, MIN_EFFICIENCY * shards));
+            }
+        }
+    }
+
+    private double measure(int shardCount) throws InterruptedException {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(h2("scaling-shard-" + i));
+        }
+        ShardedUserRepository repository = new ShardedUserRepository(h2("scaling-directory"), shards);
+        repository.initSchema();
+
+        int writers = shardCount * WRITERS_PER_SHARD;
+        AtomicLong created = new AtomicLong();
+        AtomicLong sequence = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(writers);
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        for (int w = 0; w < writers; w++) {
+            executor.execute(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    long n = sequence.incrementAndGet();
+                    repository.create(UserDTO.builder()
+                            .name("Scale User " + n).email("scale" + n + "@example.com").phone("555" + n).build());
+                    created.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(DURATION_MILLIS + 30_000, TimeUnit.MILLISECONDS));
+        executor.shutdown();
+
+        assertEquals(created.get(), repository.findAll().size());
+        repository.destroy();
+        return created.get() * 1000.0 / DURATION_MILLIS;
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    }
+}
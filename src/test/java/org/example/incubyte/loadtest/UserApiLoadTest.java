@@ -0,0 +1,84 @@
+package org.example.incubyte.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end HTTP load test of the user API on an embedded server and H2.
+ * Excluded from the default build; run with {@code mvn -Pload-test test}.
+ * <p>
+ * Results are compared with {@code loadtest/baseline.properties} (or
+ * {@code -Dloadtest.baseline=<file>}) within {@code loadtest.tolerance}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // Every client shares one address; admission control would shed the load being measured.
+        properties = {"logging.level.root=WARN", "users.admission.enabled=false"})
+@DisplayName("User API - HTTP Load Test")
+class UserApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @Test
+    @DisplayName("Should sustain the baseline throughput and latency for the configured mix")
+    void shouldMeetBaseline() throws Exception {
+        LoadDriver driver = new LoadDriver(port, settings, objectMapper);
+        driver.seedUsers();
+        double elapsedSeconds = driver.run();
+
+        driver.printReport("User API load test", elapsedSeconds);
+        assertAgainstBaseline(driver, elapsedSeconds);
+    }
+
+    private void assertAgainstBaseline(LoadDriver driver, double elapsedSeconds) throws IOException {
+        Properties baseline = new Properties();
+        String baselineFile = System.getProperty("loadtest.baseline");
+        try (InputStream in = baselineFile != null
+                ? Files.newInputStream(Path.of(baselineFile))
+                : getClass().getResourceAsStream("/loadtest/baseline.properties")) {
+            assertNotNull(in, "Missing loadtest/baseline.properties");
+            baseline.load(in);
+        }
+        List<String> regressions = new ArrayList<>();
+        driver.stats().forEach((operation, s) -> {
+            String key = operation.name().toLowerCase();
+            if (s.count() == 0) {
+                return;
+            }
+            if (s.errors() > 0) {
+                regressions.add(key + ": " + s.errors() + " failed requests");
+            }
+            String minThroughput = baseline.getProperty(key + ".min-throughput");
+            double throughput = s.count() / elapsedSeconds;
+            if (minThroughput != null && throughput < Double.parseDouble(minThroughput) * (1 - settings.tolerance())) {
+                regressions.add(String.format("%s: %.1f req/s below baseline %s", key, throughput, minThroughput));
+            }
+            String maxP99 = baseline.getProperty(key + ".max-p99-ms");
+            if (maxP99 != null && s.percentileMillis(99) > Double.parseDouble(maxP99) * (1 + settings.tolerance())) {
+                regressions.add(String.format("%s: p99 %.2f ms above baseline %s ms", key, s.percentileMillis(99), maxP99));
+            }
+        });
+        assertTrue(regressions.isEmpty(), "Load test regressions:\n" + String.join("\n", regressions));
+    }
+}
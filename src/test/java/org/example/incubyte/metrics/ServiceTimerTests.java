@@ -0,0 +1,59 @@
+package org.example.incubyte.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.example.incubyte.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:service-timers;DB_CLOSE_DELAY=-1",
+        "logging.level.root=WARN"
+})
+@DisplayName("users.service - Service Timer Tests")
+class ServiceTimerTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long count(String method, String exception) {
+        Timer timer = meterRegistry.find("users.service")
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    @DisplayName("Should time cache hits as well as misses")
+    void shouldTimeCacheHits() {
+        UserDTO created = userService.createUser(
+                UserDTO.builder().name("Timed").email("timed@example.com").phone("1234567890").build());
+        long before = count("getUserById", "none");
+
+        userService.getUserById(created.getId());
+        userService.getUserById(created.getId());
+
+        assertEquals(before + 2, count("getUserById", "none"));
+        assertEquals(1, count("createUser", "none"));
+    }
+
+    @Test
+    @DisplayName("Should tag failed calls with the exception type")
+    void shouldTagFailures() {
+        long before = count("getUserById", "UserNotFoundException");
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserById(Long.MAX_VALUE));
+
+        assertEquals(before + 1, count("getUserById", "UserNotFoundException"));
+    }
+}
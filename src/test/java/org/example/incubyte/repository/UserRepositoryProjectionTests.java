@@ -0,0 +1,85 @@
+package org.example.incubyte.repository;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link UserRepository#SELECT_USER_DTO} passes columns to the {@link UserDTO} constructor by
+ * position. Every field here holds a distinct value, so a reordered field or constructor
+ * argument shows up as a mismatch instead of silently swapping two Strings or two Longs.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-repository-projection;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@DisplayName("UserRepository - DTO Projection Tests")
+class UserRepositoryProjectionTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserDTO expected;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(User.builder()
+                .name("Projected Name")
+                .email("projected-email@example.com")
+                .phone("5550001111")
+                .active(true)
+                .build());
+        // @PrePersist sets both timestamps to the same instant; move updatedAt and clear active
+        // so that no two fields of the same type share a value.
+        long updatedAt = user.getCreatedAt() + 12_345;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.patchById(user.getId(), null, null, null, false, updatedAt));
+
+        expected = UserDTO.builder()
+                .id(user.getId())
+                .name("Projected Name")
+                .email("projected-email@example.com")
+                .phone("5550001111")
+                .active(false)
+                .createdAt(user.getCreatedAt())
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should map every column to the field of the same name")
+    void shouldMapColumnsByName() {
+        Long id = expected.getId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertEquals(expected, userRepository.findDtoById(id).orElseThrow());
+        assertEquals(List.of(expected), userRepository.findAllDtos());
+        assertEquals(List.of(expected), userRepository.findDtosByActive(false));
+        assertEquals(List.of(expected), userRepository.findDtosByIdGreaterThan(0L, Limit.of(10)));
+        assertEquals(List.of(expected), userRepository.findDtosByActiveAndIdGreaterThan(false, 0L, Limit.of(10)));
+        assertEquals(List.of(expected), userRepository.findDtosByIdIn(List.of(id)));
+        assertEquals(List.of(expected), transaction.execute(status -> userRepository.lockDtosByIdIn(List.of(id))));
+        assertEquals(List.of(expected), transaction.execute(status -> {
+            try (Stream<UserDTO> users = userRepository.streamAllDtos()) {
+                return users.toList();
+            }
+        }));
+    }
+}
@@ -0,0 +1,279 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.dto.BulkActiveResponseDTO;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.BulkDeleteResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.entity.User;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserBulkService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBulkService - Bulk Operation Tests")
+class UserBulkServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private UserBulkService userBulkService;
+
+    private UserDTO userDTO(String email) {
+        return UserDTO.builder().name("Name " + email).email(email).phone("1234567890").build();
+    }
+
+    private void assignIdsOnSave() {
+        AtomicLong ids = new AtomicLong();
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>(invocation.getArgument(0));
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+    }
+
+    @Nested
+    @DisplayName("CREATE - Bulk Creation Tests")
+    class BulkCreateTests {
+
+        @Test
+        @DisplayName("Should create every user when no email is taken")
+        void shouldCreateAllUsers() {
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            assignIdsOnSave();
+
+            BulkCreateResponseDTO response = userBulkService.createUsers(
+                    Arrays.asList(userDTO("a@example.com"), userDTO("b@example.com")));
+
+            assertEquals(2, response.getCreated());
+            assertEquals(0, response.getFailed());
+            assertEquals(BulkCreateResponseDTO.Status.CREATED, response.getResults().get(1).getStatus());
+            assertNotNull(response.getResults().get(1).getUser().getId());
+        }
+
+        @Test
+        @DisplayName("Should check existing emails with a single query")
+        void shouldCheckEmailsOnce() {
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            assignIdsOnSave();
+
+            userBulkService.createUsers(Arrays.asList(userDTO("a@example.com"), userDTO("b@example.com")));
+
+            verify(userRepository, times(1)).findExistingEmails(anyCollection());
+            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, times(1)).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("Should report existing and repeated emails per item")
+        void shouldReportDuplicatesPerItem() {
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@example.com"));
+            assignIdsOnSave();
+
+            BulkCreateResponseDTO response = userBulkService.createUsers(Arrays.asList(
+                    userDTO("taken@example.com"), userDTO("new@example.com"), userDTO("new@example.com")));
+
+            assertEquals(1, response.getCreated());
+            assertEquals(2, response.getFailed());
+            assertEquals(BulkCreateResponseDTO.Status.DUPLICATE_EMAIL, response.getResults().get(0).getStatus());
+            assertEquals(BulkCreateResponseDTO.Status.CREATED, response.getResults().get(1).getStatus());
+            assertEquals(BulkCreateResponseDTO.Status.DUPLICATE_EMAIL, response.getResults().get(2).getStatus());
+            assertTrue(response.getResults().get(2).getError().contains("new@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should report an email taken by a concurrent create as a duplicate")
+        void shouldResolveLostEmailRace() {
+            when(userRepository.findExistingEmails(anyCollection()))
+                    .thenReturn(Set.of())
+                    .thenReturn(Set.of("raced@example.com"));
+            AtomicLong ids = new AtomicLong();
+            when(userRepository.saveAllAndFlush(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("unique constraint on email"))
+                    .thenAnswer(invocation -> {
+                        List<User> users = new ArrayList<>(invocation.getArgument(0));
+                        users.forEach(user -> user.setId(ids.incrementAndGet()));
+                        return users;
+                    });
+
+            BulkCreateResponseDTO response = userBulkService.createUsers(
+                    Arrays.asList(userDTO("raced@example.com"), userDTO("free@example.com")));
+
+            assertEquals(1, response.getCreated());
+            assertEquals(BulkCreateResponseDTO.Status.DUPLICATE_EMAIL, response.getResults().get(0).getStatus());
+            assertEquals(BulkCreateResponseDTO.Status.CREATED, response.getResults().get(1).getStatus());
+            verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
+            verify(transactionManager, times(1)).rollback(any());
+        }
+
+        @Test
+        @DisplayName("Should give up after repeated constraint failures")
+        void shouldRethrowPersistentConstraintFailures() {
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            when(userRepository.saveAllAndFlush(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("not a race"));
+
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> userBulkService.createUsers(List.of(userDTO("a@example.com"))));
+            verify(userRepository, times(3)).saveAllAndFlush(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE - Bulk Deletion Tests")
+    class BulkDeleteTests {
+
+        private UserDTO existingUser(long id, boolean active) {
+            return UserDTO.builder().id(id).email("user" + id + "@example.com").active(active).build();
+        }
+
+        @Test
+        @DisplayName("Should delete existing users and report missing ids in request order")
+        void shouldReportMissingIds() {
+            when(userRepository.lockDtosByIdIn(List.of(3L, 1L, 2L)))
+                    .thenReturn(Arrays.asList(existingUser(1L, true), existingUser(3L, false)));
+            when(userRepository.deleteRowsByIdIn(List.of(1L, 3L))).thenReturn(2);
+
+            BulkDeleteResponseDTO response = userBulkService.deleteUsers(Arrays.asList(3L, 1L, 2L, 3L));
+
+            assertEquals(2, response.getDeleted());
+            assertEquals(List.of(2L), response.getMissingIds());
+            verify(userRepository).deleteRowsByIdIn(List.of(1L, 3L));
+            verify(eventPublisher, times(2)).publishEvent(any(UserChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should fail without publishing when the delete count differs from the locked rows")
+        void shouldFailOnCountMismatch() {
+            when(userRepository.lockDtosByIdIn(List.of(1L, 2L)))
+                    .thenReturn(Arrays.asList(existingUser(1L, true), existingUser(2L, true)));
+            when(userRepository.deleteRowsByIdIn(List.of(1L, 2L))).thenReturn(1);
+
+            assertThrows(IllegalStateException.class, () -> userBulkService.deleteUsers(List.of(1L, 2L)));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should split large id lists into bounded IN-clauses")
+        void shouldChunkIds() {
+            List<Long> ids = LongStream.rangeClosed(1, UserBulkService.CHUNK_SIZE + 1).boxed().toList();
+            when(userRepository.lockDtosByIdIn(anyCollection())).thenReturn(List.of());
+
+            BulkDeleteResponseDTO response = userBulkService.deleteUsers(ids);
+
+            assertEquals(0, response.getDeleted());
+            assertEquals(ids, response.getMissingIds());
+            verify(userRepository, times(2)).lockDtosByIdIn(anyCollection());
+            verify(userRepository, never()).deleteRowsByIdIn(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("ACTIVE - Bulk Activate/Deactivate Tests")
+    class BulkActiveTests {
+
+        @Test
+        @DisplayName("Should only update and count users whose flag changes")
+        void shouldUpdateOnlyChangingUsers() {
+            when(userRepository.findIdsByIdInAndActiveNot(List.of(1L, 2L, 3L), false)).thenReturn(List.of(1L, 3L));
+            when(userRepository.updateActiveByIdIn(eq(List.of(1L, 3L)), eq(false), anyLong())).thenReturn(2);
+            ArgumentCaptor<UserChangedEvent> eventCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
+
+            BulkActiveResponseDTO response = userBulkService.updateActive(Arrays.asList(1L, 2L, 3L, 1L), false);
+
+            assertEquals(2, response.getUpdated());
+            verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+            assertTrue(eventCaptor.getValue().getPreviousActive());
+            assertFalse(eventCaptor.getValue().getActive());
+        }
+
+        @Test
+        @DisplayName("Should walk a createdAt filter in keyset chunks")
+        void shouldWalkCreatedBeforeInChunks() {
+            List<Long> firstChunk = LongStream.rangeClosed(1, UserBulkService.CHUNK_SIZE).boxed().toList();
+            when(userRepository.findIdsByCreatedAtBeforeAndActiveNot(1000L, false, 0L, Limit.of(UserBulkService.CHUNK_SIZE)))
+                    .thenReturn(firstChunk);
+            when(userRepository.findIdsByCreatedAtBeforeAndActiveNot(
+                    1000L, false, (long) UserBulkService.CHUNK_SIZE, Limit.of(UserBulkService.CHUNK_SIZE)))
+                    .thenReturn(List.of(1000L));
+            when(userRepository.updateActiveByIdIn(anyCollection(), eq(false), anyLong()))
+                    .thenReturn(UserBulkService.CHUNK_SIZE).thenReturn(1);
+
+            BulkActiveResponseDTO response = userBulkService.updateActiveCreatedBefore(1000L, false);
+
+            assertEquals(UserBulkService.CHUNK_SIZE + 1, response.getUpdated());
+            verify(userRepository, times(2)).updateActiveByIdIn(anyCollection(), eq(false), anyLong());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should commit each chunk of listed ids separately")
+        void shouldCommitPerChunk() {
+            List<Long> ids = LongStream.rangeClosed(1, UserBulkService.CHUNK_SIZE + 1).boxed().toList();
+            when(userRepository.findIdsByIdInAndActiveNot(anyCollection(), eq(true)))
+                    .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+            when(userRepository.updateActiveByIdIn(anyCollection(), eq(true), anyLong()))
+                    .thenReturn(UserBulkService.CHUNK_SIZE).thenReturn(1);
+
+            BulkActiveResponseDTO response = userBulkService.updateActive(ids, true);
+
+            assertEquals(UserBulkService.CHUNK_SIZE + 1, response.getUpdated());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should roll the chunk back without events when the update count differs")
+        void shouldNotPublishUnconfirmedChanges() {
+            when(userRepository.findIdsByIdInAndActiveNot(List.of(1L, 2L), false)).thenReturn(List.of(1L, 2L));
+            when(userRepository.updateActiveByIdIn(eq(List.of(1L, 2L)), eq(false), anyLong())).thenReturn(1);
+
+            assertThrows(IllegalStateException.class, () -> userBulkService.updateActive(List.of(1L, 2L), false));
+            verify(eventPublisher, never()).publishEvent(any());
+            verify(transactionManager).rollback(any());
+        }
+
+        @Test
+        @DisplayName("Should not issue an update when no flag changes")
+        void shouldSkipUpdateWhenNothingChanges() {
+            when(userRepository.findIdsByIdInAndActiveNot(List.of(1L), true)).thenReturn(List.of());
+
+            BulkActiveResponseDTO response = userBulkService.updateActive(List.of(1L), true);
+
+            assertEquals(0, response.getUpdated());
+            verify(userRepository, never()).updateActiveByIdIn(anyCollection(), any(), any());
+        }
+    }
+}
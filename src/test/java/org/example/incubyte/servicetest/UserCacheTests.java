@@ -0,0 +1,117 @@
+package org.example.incubyte.servicetest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.UserNotFoundException;
+import org.example.incubyte.service.UserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserCache - Read-Through Cache Tests")
+class UserCacheTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(meterRegistry, "maximumSize=100");
+        loads = new AtomicInteger();
+    }
+
+    private Function<Long, UserDTO> loader(String name) {
+        return id -> {
+            loads.incrementAndGet();
+            return UserDTO.builder().id(id).name(name).email("user" + id + "@example.com").active(true).build();
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and serve later reads from the cache")
+    void shouldServeHitsFromCache() {
+        userCache.get(1L, loader("First"));
+        UserDTO hit = userCache.get(1L, loader("Second"));
+
+        assertEquals("First", hit.getName());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCache.NAME).tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should return every field of the loaded user on a hit")
+    void shouldKeepEveryFieldOnHits() {
+        UserDTO loaded = UserDTO.builder()
+                .id(1L).name("Name").email("email@example.com").phone("Phone")
+                .active(false).createdAt(2L).updatedAt(3L)
+                .build();
+        userCache.get(1L, id -> loaded);
+
+        assertEquals(loaded, userCache.get(1L, loader("Reloaded")));
+    }
+
+    @Test
+    @DisplayName("Should hand every caller its own copy")
+    void shouldNotShareCachedInstances() {
+        UserDTO first = userCache.get(1L, loader("Original"));
+        first.setName("Mutated by caller");
+        UserDTO second = userCache.get(1L, loader("Reloaded"));
+        second.setActive(false);
+
+        UserDTO third = userCache.get(1L, loader("Reloaded"));
+
+        assertEquals("Original", third.getName());
+        assertTrue(third.getActive());
+        assertNotSame(second, third);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should reload after a change event for the id")
+    void shouldInvalidateOnChangeEvent() {
+        userCache.get(1L, loader("Old"));
+        userCache.get(2L, loader("Other"));
+
+        userCache.onUserChanged(UserChangedEvent.deleted(1L, true));
+
+        assertEquals("New", userCache.get(1L, loader("New")).getName());
+        assertEquals("Other", userCache.get(2L, loader("Unused")).getName());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not store a load that overlapped an invalidation")
+    void shouldNotStoreStaleLoad() {
+        // The load reads the old row, then the write commits and invalidates before the load stores it
+        UserDTO stale = userCache.get(1L, id -> {
+            UserDTO old = loader("Before write").apply(id);
+            userCache.invalidate(id);
+            return old;
+        });
+
+        assertEquals("Before write", stale.getName());
+        assertEquals("After write", userCache.get(1L, loader("After write")).getName());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users")
+    void shouldNotCacheFailures() {
+        Function<Long, UserDTO> missing = id -> {
+            loads.incrementAndGet();
+            throw new UserNotFoundException("User not found with id: " + id);
+        };
+
+        assertThrows(UserNotFoundException.class, () -> userCache.get(1L, missing));
+        assertThrows(UserNotFoundException.class, () -> userCache.get(1L, missing));
+        assertEquals(2, loads.get());
+    }
+}
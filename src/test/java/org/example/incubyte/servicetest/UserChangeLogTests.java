@@ -0,0 +1,122 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.dto.UserChangeDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.service.UserChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserChangeLog - Ring Buffer and Resume Tests")
+class UserChangeLogTests {
+
+    private static final Duration NO_WAIT = Duration.ofMillis(1);
+
+    private final UserChangeLog log = new UserChangeLog(4, "boot1");
+
+    private void appendDeletes(long count) {
+        LongStream.rangeClosed(1, count).forEach(id -> log.append(UserChangedEvent.deleted(id, true)));
+    }
+
+    private static long[] userIds(UserChangeLog.Batch batch) {
+        return batch.changes().stream().mapToLong(UserChangeDTO::getUserId).toArray();
+    }
+
+    @Test
+    @DisplayName("Should hand out ids as epoch-sequence and resume right after a known id")
+    void shouldResumeAfterLastEventId() throws InterruptedException {
+        appendDeletes(3);
+
+        assertEquals("boot1-2", log.eventId(2));
+        UserChangeLog.Batch batch = log.read(log.cursorAfter("boot1-1"), 10, NO_WAIT);
+
+        assertFalse(batch.reset());
+        assertEquals(2, batch.from());
+        assertArrayEquals(new long[]{2L, 3L}, userIds(batch));
+        assertEquals(3, batch.changes().get(1).getSequence());
+    }
+
+    @Test
+    @DisplayName("Should start a new subscriber at the next change")
+    void shouldStartNewSubscribersAtNextChange() throws InterruptedException {
+        appendDeletes(2);
+        long cursor = log.cursorAfter(null);
+        log.append(UserChangedEvent.deleted(9L, true));
+
+        UserChangeLog.Batch batch = log.read(cursor, 10, NO_WAIT);
+
+        assertFalse(batch.reset());
+        assertArrayEquals(new long[]{9L}, userIds(batch));
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest changes once the buffer wraps")
+    void shouldWrapAroundTheBuffer() throws InterruptedException {
+        appendDeletes(6);
+
+        UserChangeLog.Batch oldest = log.read(3, 10, NO_WAIT);
+        UserChangeLog.Batch limited = log.read(3, 2, NO_WAIT);
+
+        assertFalse(oldest.reset());
+        assertArrayEquals(new long[]{3L, 4L, 5L, 6L}, userIds(oldest));
+        assertArrayEquals(new long[]{3L, 4L}, userIds(limited));
+    }
+
+    @Test
+    @DisplayName("Should reset a cursor that fell out of the buffer to the next change")
+    void shouldResetCursorsBehindTheBuffer() throws InterruptedException {
+        appendDeletes(6);
+
+        UserChangeLog.Batch batch = log.read(log.cursorAfter("boot1-1"), 10, NO_WAIT);
+
+        assertTrue(batch.reset());
+        assertEquals(7, batch.from());
+        assertTrue(batch.changes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reset ids from another epoch even when their sequence is still buffered")
+    void shouldResetIdsFromAnotherEpoch() throws InterruptedException {
+        appendDeletes(3);
+
+        UserChangeLog.Batch batch = log.read(log.cursorAfter("boot0-1"), 10, NO_WAIT);
+
+        assertTrue(batch.reset());
+        assertEquals(4, batch.from());
+    }
+
+    @Test
+    @DisplayName("Should reset malformed ids and sequences this log never issued")
+    void shouldResetUnknownIds() throws InterruptedException {
+        appendDeletes(3);
+
+        for (String id : new String[]{"2", "boot1-x", "boot1-", "-2", "boot1-99"}) {
+            UserChangeLog.Batch batch = log.read(log.cursorAfter(id), 10, NO_WAIT);
+            assertTrue(batch.reset(), id);
+            assertEquals(4, batch.from(), id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should wait for a change when the cursor is caught up")
+    void shouldWaitForNextChange() throws InterruptedException {
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            log.append(UserChangedEvent.deleted(1L, true));
+        });
+
+        UserChangeLog.Batch batch = log.read(1, 10, Duration.ofSeconds(5));
+        writer.join();
+
+        assertFalse(batch.reset());
+        assertArrayEquals(new long[]{1L}, userIds(batch));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.service.UserSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserSearchIndex - Ranked Selection Tests")
+class UserSearchIndexTests {
+
+    private static final int USERS = 2000;
+
+    private final UserSearchIndex index = new UserSearchIndex();
+
+    private static String name(long id) {
+        return switch ((int) (id % 4)) {
+            case 0 -> "Smith " + id;
+            case 1 -> "Anna Smithson " + id;
+            case 2 -> "Blacksmith " + id;
+            default -> "Other " + id;
+        };
+    }
+
+    private static String email(long id) {
+        return (id % 5 == 0 ? "smith" : "user") + id + "@example.com";
+    }
+
+    private long[] allMatches(String query) {
+        return index.search(query, 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should return every page exactly as slicing the full ranking would")
+    void shouldMatchFullRankingPageByPage() {
+        LongStream.rangeClosed(1, USERS).forEach(id -> index.put(id, name(id), email(id)));
+        long[] all = allMatches("smith");
+
+        List<Long> paged = new ArrayList<>();
+        for (int offset = 0; offset < all.length; offset += 37) {
+            long[] page = index.search("smith", offset, 37);
+            assertArrayEquals(Arrays.copyOfRange(all, offset, Math.min(offset + 37, all.length)), page);
+            Arrays.stream(page).forEach(paged::add);
+        }
+        assertEquals(Arrays.stream(all).boxed().toList(), paged);
+        assertEquals(0, index.search("smith", all.length, 10).length);
+    }
+
+    @Test
+    @DisplayName("Should rank by match kind and then by id")
+    void shouldRankByMatchKindThenId() {
+        index.put(7L, "Blacksmith", "a7@example.com");
+        index.put(5L, "John Smith", "b5@example.com");
+        index.put(9L, "Smithers", "c9@example.com");
+        index.put(3L, "Other", "smith@example.com");
+        index.put(4L, "Other", "smith");
+
+        assertArrayEquals(new long[]{4L, 3L, 9L, 5L, 7L}, index.search("smith", 0, 10));
+        assertArrayEquals(new long[]{3L, 9L}, index.search("smith", 1, 2));
+    }
+
+    @Test
+    @DisplayName("Should not return a user twice after it is re-indexed with a trigram it had before")
+    void shouldNotRepeatReindexedUsers() {
+        for (long id = 1; id <= 30; id++) {
+            index.put(id, "Smith " + id, "user" + id + "@example.com");
+        }
+        // Smith -> Jones -> Smith leaves the "smi" postings holding user 1 twice
+        index.put(1L, "Jones 1", "user1@example.com");
+        index.put(1L, "Smith 1", "user1@example.com");
+
+        long[] firstPage = index.search("smith", 0, 10);
+
+        assertArrayEquals(LongStream.rangeClosed(1, 10).toArray(), firstPage);
+        assertEquals(30, allMatches("smith").length);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.exception.InvalidSearchQueryException;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchService - Index Search Tests")
+class UserSearchServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserSearchService userSearchService;
+
+    private final Map<Long, UserDTO> users = Map.of(
+            1L, user(1L, "Alice Johnson", "alice@example.com"),
+            2L, user(2L, "John Smith", "jsmith@example.com"),
+            3L, user(3L, "Bob Jones", "john@example.com"));
+
+    private static UserDTO user(long id, String name, String email) {
+        return UserDTO.builder().id(id).name(name).email(email).active(true).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findDtosByIdGreaterThan(0L, Limit.of(1000)))
+                .thenReturn(List.of(users.get(1L), users.get(2L), users.get(3L)));
+        userSearchService.reload();
+    }
+
+    private void loadPagesFromRepository() {
+        when(userRepository.findDtosByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(users::get).toList();
+        });
+    }
+
+    private List<Long> ids(UserPageDTO page) {
+        return page.getItems().stream().map(UserDTO::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should rank email prefix, then name prefix, then name word prefix")
+    void shouldRankMatches() {
+        loadPagesFromRepository();
+
+        UserPageDTO page = userSearchService.search("JOHN", null, 10);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should page through ranked matches with a cursor")
+    void shouldPageWithCursor() {
+        loadPagesFromRepository();
+
+        UserPageDTO first = userSearchService.search("john", null, 2);
+        UserPageDTO second = userSearchService.search("john", first.getNextCursor(), 2);
+
+        assertEquals(List.of(3L, 2L), ids(first));
+        assertEquals(List.of(1L), ids(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should follow committed updates and deletes")
+    void shouldFollowChanges() {
+        loadPagesFromRepository();
+
+        userSearchService.onUserChanged(UserChangedEvent.updated(user(1L, "Alice Brown", "alice@example.com"), true));
+        userSearchService.onUserChanged(UserChangedEvent.deleted(3L, true));
+
+        assertEquals(List.of(2L), ids(userSearchService.search("john", null, 10)));
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing matches")
+    void shouldSkipDatabaseWithoutMatches() {
+        UserPageDTO page = userSearchService.search("zzz", null, 10);
+
+        assertTrue(page.getItems().isEmpty());
+        verify(userRepository, never()).findDtosByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject queries shorter than three characters")
+    void shouldRejectShortQueries() {
+        assertThrows(InvalidSearchQueryException.class, () -> userSearchService.search("jo", null, 10));
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.incubyte.servicetest;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.incubyte.dto.UserDTO;
 import org.example.incubyte.entity.User;
 import org.example.incubyte.exception.DuplicateEmailException;
 import org.example.incubyte.exception.UserNotFoundException;
 import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserCache;
 import org.example.incubyte.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -27,6 +31,12 @@ class UserServiceLevel1Tests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private UserCache userCache = new UserCache(new SimpleMeterRegistry(), "maximumSize=100");
+
     @InjectMocks
     private UserService userService;
 
@@ -89,7 +99,11 @@ class UserServiceLevel1Tests {
                 .createdAt(System.currentTimeMillis())
                 .updatedAt(System.currentTimeMillis())
                 .build();
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(UserDTO.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build()));
 
         UserDTO result = userService.getUserById(1L);
 
@@ -101,8 +115,23 @@ class UserServiceLevel1Tests {
     @DisplayName("Should throw exception when user not found")
     void testGetUserByIdNotFound() {
 
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.findDtoById(999L)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.getUserById(999L));
     }
+
+    @Test
+    @DisplayName("Should map every entity field to the DTO field of the same name")
+    void testMapToDTOCopiesEveryField() {
+        User user = User.builder()
+                .id(1L).name("Name").email("email@example.com").phone("Phone")
+                .active(false).createdAt(2L).updatedAt(3L)
+                .build();
+
+        UserDTO expected = UserDTO.builder()
+                .id(1L).name("Name").email("email@example.com").phone("Phone")
+                .active(false).createdAt(2L).updatedAt(3L)
+                .build();
+        assertEquals(expected, UserService.mapToDTO(user));
+    }
 }
\ No newline at end of file
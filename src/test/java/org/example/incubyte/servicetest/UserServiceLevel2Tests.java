@@ -1,11 +1,19 @@
 package org.example.incubyte.servicetest;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPageDTO;
+import org.example.incubyte.dto.UserPatchDTO;
+import org.example.incubyte.dto.UserVersionDTO;
 import org.example.incubyte.entity.User;
+import org.example.incubyte.event.UserChangedEvent;
 import org.example.incubyte.exception.DuplicateEmailException;
+import org.example.incubyte.exception.InvalidCursorException;
 import org.example.incubyte.exception.UserNotFoundException;
 import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserCache;
 import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,14 +22,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +48,12 @@ class UserServiceLevel2Tests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private UserCache userCache = new UserCache(new SimpleMeterRegistry(), "maximumSize=100");
+
     @InjectMocks
     private UserService userService;
 
@@ -59,6 +82,18 @@ class UserServiceLevel2Tests {
                 .build();
     }
 
+    private UserDTO toDTO(User user) {
+        return UserDTO.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .active(user.getActive())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
     // ===== CREATE USER TESTS =====
     @Nested
     @DisplayName("CREATE - User Creation Tests")
@@ -206,7 +241,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should retrieve user by id")
             void shouldGetUserById() {
-                when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+                when(userRepository.findDtoById(1L)).thenReturn(Optional.of(toDTO(testUser)));
 
                 UserDTO result = userService.getUserById(1L);
 
@@ -218,7 +253,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should throw UserNotFoundException when user not found")
             void shouldThrowUserNotFoundWhenIdDoesNotExist() {
-                when(userRepository.findById(999L)).thenReturn(Optional.empty());
+                when(userRepository.findDtoById(999L)).thenReturn(Optional.empty());
 
                 assertThrows(UserNotFoundException.class,
                         () -> userService.getUserById(999L));
@@ -229,7 +264,7 @@ class UserServiceLevel2Tests {
             void shouldGetAllUsers() {
                 User user2 = User.builder().id(2L).name("Jane Doe").email("jane@example.com")
                         .phone("9876543210").active(true).createdAt(currentTime).updatedAt(currentTime).build();
-                when(userRepository.findAll()).thenReturn(Arrays.asList(testUser, user2));
+                when(userRepository.findAllDtos()).thenReturn(Arrays.asList(toDTO(testUser), toDTO(user2)));
 
                 List<UserDTO> result = userService.getAllUsers();
 
@@ -246,7 +281,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should return empty list when no users exist")
             void shouldReturnEmptyListWhenNoUsers() {
-                when(userRepository.findAll()).thenReturn(Arrays.asList());
+                when(userRepository.findAllDtos()).thenReturn(Arrays.asList());
 
                 List<UserDTO> result = userService.getAllUsers();
 
@@ -259,7 +294,7 @@ class UserServiceLevel2Tests {
                 User inactiveUser = User.builder().id(2L).name("Inactive User")
                         .email("inactive@example.com").phone("1111111111")
                         .active(false).createdAt(currentTime).updatedAt(currentTime).build();
-                when(userRepository.findByActive(true)).thenReturn(Arrays.asList(testUser));
+                when(userRepository.findDtosByActive(true)).thenReturn(Arrays.asList(toDTO(testUser)));
 
                 List<UserDTO> result = userService.getActiveUsers();
 
@@ -270,7 +305,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should preserve all user fields in retrieved DTO")
             void shouldPreserveAllUserFields() {
-                when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+                when(userRepository.findDtoById(1L)).thenReturn(Optional.of(toDTO(testUser)));
 
                 UserDTO result = userService.getUserById(1L);
 
@@ -291,7 +326,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should provide meaningful error when user not found")
             void shouldProvideMeaningfulErrorMessage() {
-                when(userRepository.findById(999L)).thenReturn(Optional.empty());
+                when(userRepository.findDtoById(999L)).thenReturn(Optional.empty());
 
                 UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                         () -> userService.getUserById(999L));
@@ -301,7 +336,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should handle zero id gracefully")
             void shouldHandleZeroId() {
-                when(userRepository.findById(0L)).thenReturn(Optional.empty());
+                when(userRepository.findDtoById(0L)).thenReturn(Optional.empty());
 
                 assertThrows(UserNotFoundException.class,
                         () -> userService.getUserById(0L));
@@ -310,7 +345,7 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should handle negative id gracefully")
             void shouldHandleNegativeId() {
-                when(userRepository.findById(-1L)).thenReturn(Optional.empty());
+                when(userRepository.findDtoById(-1L)).thenReturn(Optional.empty());
 
                 assertThrows(UserNotFoundException.class,
                         () -> userService.getUserById(-1L));
@@ -381,6 +416,24 @@ class UserServiceLevel2Tests {
                 assertFalse(result.getActive());
             }
 
+            @Test
+            @DisplayName("Should take the previous active flag from the conditional update")
+            void shouldDerivePreviousActiveFromUpdateCount() {
+                UserDTO updateDTO = UserDTO.builder().active(false).build();
+                // A concurrent request already deactivated the user, so this update changes nothing
+                when(userRepository.updateActiveById(eq(1L), eq(false), anyLong())).thenReturn(0);
+                testUser.setActive(false);
+                when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+                when(userRepository.save(any(User.class))).thenReturn(testUser);
+                ArgumentCaptor<UserChangedEvent> eventCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
+
+                userService.updateUser(1L, updateDTO);
+
+                verify(eventPublisher).publishEvent(eventCaptor.capture());
+                assertFalse(eventCaptor.getValue().getPreviousActive());
+                assertFalse(eventCaptor.getValue().getActive());
+            }
+
             @Test
             @DisplayName("Should update email with uniqueness check")
             void shouldUpdateEmailWithUniquenessCheck() {
@@ -468,6 +521,81 @@ class UserServiceLevel2Tests {
         }
     }
 
+    // ===== PATCH USER TESTS =====
+    @Nested
+    @DisplayName("PATCH - Partial Update Tests")
+    class PatchUserTests {
+
+        @Test
+        @DisplayName("Should patch in one update and return the projected row")
+        void shouldPatchWithSingleUpdate() {
+            UserPatchDTO patchDTO = UserPatchDTO.builder().name("Jane Doe").build();
+            when(userRepository.patchById(eq(1L), eq("Jane Doe"), isNull(), isNull(), isNull(), anyLong()))
+                    .thenReturn(1);
+            testUser.setName("Jane Doe");
+            when(userRepository.findDtoById(1L)).thenReturn(Optional.of(toDTO(testUser)));
+
+            UserDTO result = userService.patchUser(1L, patchDTO);
+
+            assertEquals("Jane Doe", result.getName());
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).updateActiveById(any(), any(), any());
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when no row was updated")
+        void shouldThrowWhenNothingUpdated() {
+            UserPatchDTO patchDTO = UserPatchDTO.builder().phone("9999999999").build();
+            when(userRepository.patchById(eq(999L), isNull(), isNull(), eq("9999999999"), isNull(), anyLong()))
+                    .thenReturn(0);
+
+            assertThrows(UserNotFoundException.class, () -> userService.patchUser(999L, patchDTO));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("Should map a unique constraint violation to DuplicateEmailException")
+        void shouldMapConstraintViolationToDuplicateEmail() {
+            UserPatchDTO patchDTO = UserPatchDTO.builder().email("existing@example.com").build();
+            when(userRepository.patchById(eq(1L), isNull(), eq("existing@example.com"), isNull(), isNull(), anyLong()))
+                    .thenThrow(new DataIntegrityViolationException(
+                            "Unique index or primary key violation: \"PUBLIC.UK_USERS_EMAIL_INDEX_4 ON PUBLIC.USERS(EMAIL)\""));
+
+            DuplicateEmailException exception = assertThrows(DuplicateEmailException.class,
+                    () -> userService.patchUser(1L, patchDTO));
+            assertTrue(exception.getMessage().contains("existing@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should not report other integrity failures as a duplicate email")
+        void shouldRethrowOtherConstraintViolations() {
+            UserPatchDTO patchDTO = UserPatchDTO.builder().name("x".repeat(300)).build();
+            when(userRepository.patchById(eq(1L), eq(patchDTO.getName()), isNull(), isNull(), isNull(), anyLong()))
+                    .thenThrow(new DataIntegrityViolationException("Value too long for column \"NAME\""));
+
+            assertThrows(DataIntegrityViolationException.class, () -> userService.patchUser(1L, patchDTO));
+        }
+
+        @Test
+        @DisplayName("Should publish the previous active flag when the patch changes it")
+        void shouldPublishPreviousActiveFlag() {
+            UserPatchDTO patchDTO = UserPatchDTO.builder().active(false).build();
+            when(userRepository.updateActiveById(eq(1L), eq(false), anyLong())).thenReturn(1);
+            when(userRepository.patchById(eq(1L), isNull(), isNull(), isNull(), isNull(), anyLong())).thenReturn(1);
+            testUser.setActive(false);
+            when(userRepository.findDtoById(1L)).thenReturn(Optional.of(toDTO(testUser)));
+            ArgumentCaptor<UserChangedEvent> eventCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
+
+            userService.patchUser(1L, patchDTO);
+
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertTrue(eventCaptor.getValue().getPreviousActive());
+            assertFalse(eventCaptor.getValue().getActive());
+        }
+    }
+
     // ===== DELETE USER TESTS =====
     @Nested
     @DisplayName("DELETE - User Removal Tests")
@@ -478,19 +606,20 @@ class UserServiceLevel2Tests {
         class Level1Basic {
 
             @Test
-            @DisplayName("Should delete user successfully")
+            @DisplayName("Should delete an active user with a single statement")
             void shouldDeleteUserSuccessfully() {
-                when(userRepository.existsById(1L)).thenReturn(true);
-                doNothing().when(userRepository).deleteById(1L);
+                when(userRepository.deleteRowByIdAndActive(1L, true)).thenReturn(1);
 
                 assertDoesNotThrow(() -> userService.deleteUser(1L));
-                verify(userRepository, times(1)).deleteById(1L);
+                verify(userRepository, never()).deleteRowById(any());
+                verify(userRepository, never()).findById(any());
             }
 
             @Test
             @DisplayName("Should throw exception when deleting non-existent user")
             void shouldThrowExceptionWhenUserNotFound() {
-                when(userRepository.existsById(999L)).thenReturn(false);
+                when(userRepository.deleteRowByIdAndActive(999L, true)).thenReturn(0);
+                when(userRepository.deleteRowById(999L)).thenReturn(0);
 
                 assertThrows(UserNotFoundException.class,
                         () -> userService.deleteUser(999L));
@@ -502,20 +631,23 @@ class UserServiceLevel2Tests {
         class Level2Enhanced {
 
             @Test
-            @DisplayName("Should verify existence before deletion")
-            void shouldVerifyExistenceBeforeDeletion() {
-                when(userRepository.existsById(1L)).thenReturn(true);
-                doNothing().when(userRepository).deleteById(1L);
+            @DisplayName("Should fall back to an unconditional delete for inactive users")
+            void shouldDeleteInactiveUser() {
+                when(userRepository.deleteRowByIdAndActive(1L, true)).thenReturn(0);
+                when(userRepository.deleteRowById(1L)).thenReturn(1);
+                ArgumentCaptor<UserChangedEvent> eventCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
 
                 userService.deleteUser(1L);
 
-                verify(userRepository, times(1)).existsById(1L);
+                verify(eventPublisher).publishEvent(eventCaptor.capture());
+                assertFalse(eventCaptor.getValue().getPreviousActive());
             }
 
             @Test
             @DisplayName("Should provide meaningful error for non-existent user")
             void shouldProvideMeaningfulErrorMessage() {
-                when(userRepository.existsById(999L)).thenReturn(false);
+                when(userRepository.deleteRowByIdAndActive(999L, true)).thenReturn(0);
+                when(userRepository.deleteRowById(999L)).thenReturn(0);
 
                 UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                         () -> userService.deleteUser(999L));
@@ -525,12 +657,163 @@ class UserServiceLevel2Tests {
             @Test
             @DisplayName("Should handle multiple deletion attempts gracefully")
             void shouldHandleMultipleDeletionAttempts() {
-                when(userRepository.existsById(1L)).thenReturn(true).thenReturn(false);
-                doNothing().when(userRepository).deleteById(1L);
+                when(userRepository.deleteRowByIdAndActive(1L, true)).thenReturn(1).thenReturn(0);
+                when(userRepository.deleteRowById(1L)).thenReturn(0);
 
                 userService.deleteUser(1L);
                 assertThrows(UserNotFoundException.class, () -> userService.deleteUser(1L));
             }
+
+            @Test
+            @DisplayName("Should publish a delete event carrying the previous active flag")
+            void shouldPublishDeleteEvent() {
+                when(userRepository.deleteRowByIdAndActive(1L, true)).thenReturn(1);
+                ArgumentCaptor<UserChangedEvent> eventCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
+
+                userService.deleteUser(1L);
+
+                verify(eventPublisher).publishEvent(eventCaptor.capture());
+                assertEquals(UserChangedEvent.Type.DELETED, eventCaptor.getValue().getType());
+                assertEquals(1L, eventCaptor.getValue().getUserId());
+                assertTrue(eventCaptor.getValue().getPreviousActive());
+            }
+        }
+    }
+
+    // ===== PAGINATION TESTS =====
+    @Nested
+    @DisplayName("PAGE - Keyset Pagination Tests")
+    class PaginationTests {
+
+        private UserDTO userWithId(long id) {
+            return UserDTO.builder().id(id).name("User " + id).email("user" + id + "@example.com")
+                    .phone("1234567890").active(true).createdAt(currentTime).updatedAt(currentTime).build();
+        }
+
+        @Test
+        @DisplayName("Should start from the beginning when no cursor is given")
+        void shouldStartFromBeginningWithoutCursor() {
+            when(userRepository.findDtosByIdGreaterThan(0L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(userWithId(1L), userWithId(2L)));
+
+            UserPageDTO page = userService.getUsersPage(null, 2);
+
+            assertEquals(2, page.getItems().size());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should return a cursor that resumes after the last item")
+        void shouldReturnResumableCursor() {
+            when(userRepository.findDtosByIdGreaterThan(0L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(userWithId(1L), userWithId(2L), userWithId(3L)));
+            when(userRepository.findDtosByIdGreaterThan(2L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(userWithId(3L)));
+
+            UserPageDTO first = userService.getUsersPage(null, 2);
+            UserPageDTO second = userService.getUsersPage(first.getNextCursor(), 2);
+
+            assertEquals(2, first.getItems().size());
+            assertNotNull(first.getNextCursor());
+            assertEquals(3L, second.getItems().get(0).getId());
+            assertNull(second.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should cap the page size")
+        void shouldCapPageSize() {
+            when(userRepository.findDtosByActiveAndIdGreaterThan(true, 0L, Limit.of(UserService.MAX_PAGE_SIZE + 1)))
+                    .thenReturn(Arrays.asList());
+
+            UserPageDTO page = userService.getActiveUsersPage(null, 1_000_000);
+
+            assertTrue(page.getItems().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(InvalidCursorException.class, () -> userService.getUsersPage("not-a-cursor!", 10));
+            verify(userRepository, never()).findDtosByIdGreaterThan(any(), any());
+        }
+    }
+
+    // ===== VERSION TESTS =====
+    @Nested
+    @DisplayName("VERSION - Conditional Request Tests")
+    class VersionTests {
+
+        private UserDTO userWithId(long id, long updatedAt) {
+            return UserDTO.builder().id(id).name("User " + id).email("user" + id + "@example.com")
+                    .phone("1234567890").active(true).createdAt(currentTime).updatedAt(updatedAt).build();
+        }
+
+        @Test
+        @DisplayName("Should read a user's version without loading the user")
+        void shouldReadUserVersion() {
+            when(userRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(currentTime));
+
+            assertEquals(currentTime, userService.getUserVersion(1L));
+            verify(userRepository, never()).findDtoById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException for the version of a missing user")
+        void shouldThrowForMissingUserVersion() {
+            when(userRepository.findUpdatedAtById(999L)).thenReturn(Optional.empty());
+
+            assertThrows(UserNotFoundException.class, () -> userService.getUserVersion(999L));
+        }
+
+        @Test
+        @DisplayName("Should derive the same page version from version rows as from the full page")
+        void shouldMatchFullPageVersion() {
+            when(userRepository.findVersionsByIdGreaterThan(0L, Limit.of(3))).thenReturn(Arrays.asList(
+                    new UserVersionDTO(1L, currentTime), new UserVersionDTO(2L, currentTime),
+                    new UserVersionDTO(3L, currentTime)));
+            when(userRepository.findDtosByIdGreaterThan(0L, Limit.of(3))).thenReturn(Arrays.asList(
+                    userWithId(1L, currentTime), userWithId(2L, currentTime), userWithId(3L, currentTime)));
+
+            long version = userService.getUsersPageVersion(null, 2);
+
+            assertEquals(UserVersions.pageVersion(userService.getUsersPage(null, 2)), version);
+        }
+
+        @Test
+        @DisplayName("Should change the page version when a user on the page is updated")
+        void shouldChangePageVersionOnUpdate() {
+            when(userRepository.findVersionsByActiveAndIdGreaterThan(true, 0L, Limit.of(3)))
+                    .thenReturn(Arrays.asList(new UserVersionDTO(1L, currentTime), new UserVersionDTO(2L, currentTime)))
+                    .thenReturn(Arrays.asList(new UserVersionDTO(1L, currentTime), new UserVersionDTO(2L, currentTime + 1)));
+
+            long before = userService.getActiveUsersPageVersion(null, 2);
+            long after = userService.getActiveUsersPageVersion(null, 2);
+
+            assertNotEquals(before, after);
+        }
+    }
+
+    @Nested
+    @DisplayName("EXPORT - Streaming Tests")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Should hand each row to the consumer before reading the next and close the stream")
+        void shouldStreamOneRowAtATime() {
+            List<String> calls = new ArrayList<>();
+            boolean[] closed = {false};
+            Stream<UserDTO> rows = Stream.of(1L, 2L, 3L)
+                    .map(id -> {
+                        calls.add("read " + id);
+                        return UserDTO.builder().id(id).build();
+                    })
+                    .onClose(() -> closed[0] = true);
+            when(userRepository.streamAllDtos()).thenReturn(rows);
+
+            userService.exportUsers(user -> calls.add("write " + user.getId()));
+
+            assertEquals(List.of("read 1", "write 1", "read 2", "write 2", "read 3", "write 3"), calls);
+            assertTrue(closed[0]);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package org.example.incubyte.servicetest;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserStatsDTO;
+import org.example.incubyte.event.UserChangedEvent;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatsService - Counter Tests")
+class UserStatsServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserStatsService userStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.count()).thenReturn(10L);
+        when(userRepository.countByActive(true)).thenReturn(7L);
+        userStatsService.reload();
+    }
+
+    private UserDTO user(long id, boolean active) {
+        return UserDTO.builder().id(id).active(active).build();
+    }
+
+    @Test
+    @DisplayName("Should seed counters from the repository")
+    void shouldSeedCounters() {
+        UserStatsDTO stats = userStatsService.getStats();
+
+        assertEquals(10, stats.getTotal());
+        assertEquals(7, stats.getActive());
+        assertEquals(3, stats.getInactive());
+    }
+
+    @Test
+    @DisplayName("Should count created users without querying again")
+    void shouldCountCreatedUsers() {
+        userStatsService.onUserChanged(UserChangedEvent.created(user(11L, true)));
+
+        assertEquals(11, userStatsService.getStats().getTotal());
+        assertEquals(8, userStatsService.getStats().getActive());
+        verify(userRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Should move users between active and inactive on update")
+    void shouldTrackActiveTransitions() {
+        userStatsService.onUserChanged(UserChangedEvent.updated(user(1L, false), true));
+        userStatsService.onUserChanged(UserChangedEvent.updated(user(2L, true), true));
+
+        assertEquals(10, userStatsService.getStats().getTotal());
+        assertEquals(6, userStatsService.getStats().getActive());
+    }
+
+    @Test
+    @DisplayName("Should decrement counters on delete")
+    void shouldDecrementOnDelete() {
+        userStatsService.onUserChanged(UserChangedEvent.deleted(1L, true));
+        userStatsService.onUserChanged(UserChangedEvent.deleted(2L, false));
+
+        assertEquals(8, userStatsService.getStats().getTotal());
+        assertEquals(6, userStatsService.getStats().getActive());
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.incubyte.servicetest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.incubyte.dto.AsyncCreateStatusDTO;
+import org.example.incubyte.dto.AsyncCreateStatusDTO.Status;
+import org.example.incubyte.dto.BulkCreateResponseDTO;
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.exception.WriteQueueFullException;
+import org.example.incubyte.service.UserBulkService;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserWriteBehindService;
+import org.example.incubyte.service.UserWriteBehindService.Overflow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserWriteBehindService - Write-Behind Create Tests")
+class UserWriteBehindServiceTests {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserBulkService userBulkService;
+
+    private UserWriteBehindService writeBehind;
+
+    private UserWriteBehindService writeBehind(int queueCapacity, Overflow overflow) {
+        writeBehind = new UserWriteBehindService(
+                userService, userBulkService, new SimpleMeterRegistry(), queueCapacity, 500, overflow, 1000);
+        return writeBehind;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.destroy();
+    }
+
+    private UserDTO userDTO(String email) {
+        return UserDTO.builder().name("Name " + email).email(email).phone("1234567890").build();
+    }
+
+    @Test
+    @DisplayName("Should commit queued creates through the bulk path and report the outcome")
+    void shouldCommitQueuedCreates() {
+        UserDTO saved = userDTO("a@example.com");
+        saved.setId(1L);
+        when(userBulkService.createUsers(anyList())).thenReturn(BulkCreateResponseDTO.builder()
+                .created(1)
+                .results(List.of(BulkCreateResponseDTO.Result.builder()
+                        .index(0).status(BulkCreateResponseDTO.Status.CREATED).user(saved).build()))
+                .build());
+        writeBehind(10, Overflow.SYNC).start();
+
+        AsyncCreateStatusDTO accepted = writeBehind.submit(userDTO("a@example.com"));
+        AsyncCreateStatusDTO done = writeBehind.getStatus(accepted.getTrackingId(), Duration.ofSeconds(5)).orElseThrow();
+
+        assertEquals(Status.PENDING, accepted.getStatus());
+        assertEquals(Status.CREATED, done.getStatus());
+        assertEquals(1L, done.getUser().getId());
+    }
+
+    @Test
+    @DisplayName("Should fail only the create that lost an email race, not its whole batch")
+    void shouldIsolateConflictingCreate() {
+        when(userBulkService.createUsers(anyList())).thenAnswer(invocation -> {
+            List<UserDTO> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> user.getEmail().equals("taken@example.com"))) {
+                throw new DataIntegrityViolationException("could not execute batch",
+                        new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_USERS_EMAIL_INDEX_4\""));
+            }
+            return BulkCreateResponseDTO.builder()
+                    .created(users.size())
+                    .results(IntStream.range(0, users.size())
+                            .mapToObj(i -> BulkCreateResponseDTO.Result.builder()
+                                    .index(i).status(BulkCreateResponseDTO.Status.CREATED).user(users.get(i)).build())
+                            .toList())
+                    .build();
+        });
+        writeBehind(10, Overflow.SYNC);
+        List<String> trackingIds = List.of("a@example.com", "taken@example.com", "c@example.com", "d@example.com")
+                .stream()
+                .map(email -> writeBehind.submit(userDTO(email)).getTrackingId())
+                .toList();
+        writeBehind.start();
+
+        List<Status> statuses = trackingIds.stream()
+                .map(id -> writeBehind.getStatus(id, Duration.ofSeconds(5)).orElseThrow().getStatus())
+                .toList();
+
+        assertEquals(List.of(Status.CREATED, Status.DUPLICATE_EMAIL, Status.CREATED, Status.CREATED), statuses);
+    }
+
+    @Test
+    @DisplayName("Should write synchronously when the queue is full and overflow is sync")
+    void shouldFallBackToSynchronousCreate() {
+        when(userService.createUser(any(UserDTO.class))).thenReturn(userDTO("b@example.com"));
+        writeBehind(1, Overflow.SYNC);
+
+        writeBehind.submit(userDTO("a@example.com"));
+        AsyncCreateStatusDTO overflowed = writeBehind.submit(userDTO("b@example.com"));
+
+        assertEquals(Status.CREATED, overflowed.getStatus());
+        verify(userService, times(1)).createUser(any(UserDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse creates when the queue is full and overflow is reject")
+    void shouldRejectWhenQueueIsFull() {
+        writeBehind(1, Overflow.REJECT);
+
+        writeBehind.submit(userDTO("a@example.com"));
+
+        assertThrows(WriteQueueFullException.class, () -> writeBehind.submit(userDTO("b@example.com")));
+        verify(userService, never()).createUser(any(UserDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should report unknown tracking ids as absent")
+    void shouldReportUnknownTrackingId() {
+        writeBehind(1, Overflow.SYNC);
+
+        assertTrue(writeBehind.getStatus("unknown", Duration.ZERO).isEmpty());
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.incubyte.sharding;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.exception.DuplicateEmailException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedUserRepository - Sharding Tests")
+class ShardedUserRepositoryTests {
+
+    private static final int SHARDS = 3;
+
+    private ShardedUserRepository repository;
+
+    static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(h2("shard-" + i));
+        }
+        repository = new ShardedUserRepository(h2("directory"), shards);
+        repository.initSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    private UserDTO create(String email) {
+        return repository.create(UserDTO.builder().name("Name " + email).email(email).phone("1234567890").build());
+    }
+
+    @Test
+    @DisplayName("Should spread users over every shard and find each one by id and email")
+    void shouldRouteById() {
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            UserDTO user = create("user" + i + "@example.com");
+            usedShards.add(repository.shardOf(user.getId()));
+            assertEquals(user.getEmail(), repository.findById(user.getId()).orElseThrow().getEmail());
+            assertEquals(user.getId(), repository.findByEmail(user.getEmail()).orElseThrow().getId());
+        }
+        assertEquals(SHARDS, usedShards.size());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate emails across shards")
+    void shouldRejectDuplicateEmailAcrossShards() {
+        create("taken@example.com");
+
+        assertThrows(DuplicateEmailException.class, () -> create("taken@example.com"));
+        assertEquals(1, repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should merge scatter-gather listings in id order")
+    void shouldMergeListingsInIdOrder() {
+        IntStream.range(0, 20).forEach(i -> create("user" + i + "@example.com"));
+        UserDTO inactive = repository.findAll().get(5);
+        repository.update(inactive.getId(), UserDTO.builder().active(false).build());
+
+        List<Long> all = repository.findAll().stream().map(UserDTO::getId).toList();
+        List<Long> active = repository.findByActive(true).stream().map(UserDTO::getId).toList();
+
+        assertEquals(all.stream().sorted().toList(), all);
+        assertEquals(20, all.size());
+        assertEquals(19, active.size());
+        assertFalse(active.contains(inactive.getId()));
+        assertEquals(20, repository.count());
+        assertEquals(19, repository.countByActive(true));
+    }
+
+    @Test
+    @DisplayName("Should look up a set of ids across shards in id order")
+    void shouldFindAllByIdAcrossShards() {
+        IntStream.range(0, 12).forEach(i -> create("batch" + i + "@example.com"));
+        List<Long> ids = repository.findAll().stream().map(UserDTO::getId).toList();
+        List<Long> wanted = List.of(ids.get(9), ids.get(2), ids.get(5), ids.get(2), -1L);
+
+        List<Long> found = repository.findAllById(wanted).stream().map(UserDTO::getId).toList();
+
+        assertEquals(List.of(ids.get(2), ids.get(5), ids.get(9)), found);
+    }
+
+    @Test
+    @DisplayName("Should move the email claim on update and release it on delete")
+    void shouldMaintainDirectory() {
+        UserDTO user = create("old@example.com");
+        create("other@example.com");
+
+        assertThrows(DuplicateEmailException.class,
+                () -> repository.update(user.getId(), UserDTO.builder().email("other@example.com").build()));
+        repository.update(user.getId(), UserDTO.builder().email("new@example.com").build());
+        assertTrue(repository.findByEmail("old@example.com").isEmpty());
+        assertEquals(user.getId(), repository.findByEmail("new@example.com").orElseThrow().getId());
+
+        assertTrue(repository.deleteById(user.getId()));
+        assertFalse(repository.deleteById(user.getId()));
+        assertEquals("new@example.com", create("new@example.com").getEmail());
+    }
+
+    @Test
+    @DisplayName("Should page across shards in id order")
+    void shouldPageAcrossShards() {
+        IntStream.range(0, 10).forEach(i -> create("page" + i + "@example.com"));
+        List<Long> ids = repository.findAll().stream().map(UserDTO::getId).toList();
+        repository.update(ids.get(3), UserDTO.builder().active(false).build());
+
+        assertEquals(ids.subList(0, 4), repository.findAfter(0, null, 4).stream().map(UserDTO::getId).toList());
+        assertEquals(ids.subList(5, 10), repository.findAfter(ids.get(4), null, 10).stream().map(UserDTO::getId).toList());
+        assertFalse(repository.findAfter(0, true, 10).stream().map(UserDTO::getId).toList().contains(ids.get(3)));
+    }
+
+    @Test
+    @DisplayName("Should release a claimed email when the shard update fails")
+    void shouldReleaseClaimWhenUpdateFails() {
+        UserDTO user = create("kept@example.com");
+        UserDTO changes = UserDTO.builder().name("x".repeat(300)).email("claimed@example.com").build();
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.update(user.getId(), changes));
+        assertTrue(repository.findByEmail("claimed@example.com").isEmpty());
+        assertEquals(user.getId(), repository.findByEmail("kept@example.com").orElseThrow().getId());
+        assertEquals("claimed@example.com", create("claimed@example.com").getEmail());
+    }
+
+    @Test
+    @DisplayName("Should report a flip of the active flag only to the update that made it")
+    void shouldReportPreviousActiveOnUpdate() {
+        UserDTO user = create("flip@example.com");
+
+        ShardedUserRepository.Update first = repository.update(user.getId(), UserDTO.builder().active(false).build());
+        ShardedUserRepository.Update second = repository.update(user.getId(), UserDTO.builder().active(false).build());
+        ShardedUserRepository.Update rename = repository.update(user.getId(), UserDTO.builder().name("Renamed").build());
+
+        assertTrue(first.previousActive());
+        assertFalse(first.user().getActive());
+        assertFalse(second.previousActive());
+        assertFalse(rename.previousActive());
+        assertFalse(rename.user().getActive());
+        assertEquals("Renamed", repository.findById(user.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should report the active flag a deleted user had")
+    void shouldReportPreviousActiveOnDelete() {
+        UserDTO active = create("active@example.com");
+        UserDTO inactive = create("inactive@example.com");
+        repository.update(inactive.getId(), UserDTO.builder().active(false).build());
+
+        assertEquals(true, repository.delete(active.getId()).orElseThrow());
+        assertEquals(false, repository.delete(inactive.getId()).orElseThrow());
+        assertTrue(repository.delete(active.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.incubyte.sharding;
+
+import org.example.incubyte.dto.UserDTO;
+import org.example.incubyte.dto.UserPatchDTO;
+import org.example.incubyte.repository.UserRepository;
+import org.example.incubyte.service.UserService;
+import org.example.incubyte.service.UserStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharded-service;DB_CLOSE_DELAY=-1",
+        "users.sharding.url-template=jdbc:h2:mem:sharded-service-%s;DB_CLOSE_DELAY=-1",
+        "users.admission.enabled=false",
+        "logging.level.root=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("sharded")
+@DisplayName("ShardedUserService - Sharded Profile Tests")
+class ShardedUserServiceTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private ShardedUserRepository shardedUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should serve the user endpoints from the shards")
+    void shouldServeEndpointsFromShards() throws Exception {
+        assertInstanceOf(ShardedUserService.class, userService);
+
+        mockMvc.perform(post("/api/v1/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Sharded\",\"email\":\"sharded@example.com\",\"phone\":\"1234567890\"}"))
+                .andExpect(status().isCreated());
+        UserDTO created = shardedUserRepository.findByEmail("sharded@example.com").orElseThrow();
+
+        mockMvc.perform(get("/api/v1/users/" + created.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("sharded@example.com"));
+        mockMvc.perform(patch("/api/v1/users/" + created.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\",\"active\":false}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"));
+        mockMvc.perform(get("/api/v1/users/" + created.getId()))
+                .andExpect(jsonPath("$.name").value("Renamed"))
+                .andExpect(jsonPath("$.active").value(false));
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("sharded@example.com"));
+        mockMvc.perform(post("/api/v1/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Again\",\"email\":\"sharded@example.com\",\"phone\":\"1234567890\"}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(delete("/api/v1/users/" + created.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/users/" + created.getId()))
+                .andExpect(status().isNotFound());
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should search and count users on the shards")
+    void shouldSearchAndCountFromShards() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/api/v1/users").contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"Findable " + i + "\",\"email\":\"findable" + i + "@example.com\",\"phone\":\"1234567890\"}"))
+                    .andExpect(status().isCreated());
+        }
+        UserDTO second = shardedUserRepository.findByEmail("findable2@example.com").orElseThrow();
+        userService.patchUser(second.getId(), UserPatchDTO.builder().active(false).build());
+
+        mockMvc.perform(get("/api/v1/users/search").param("q", "findable2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.items[0].active").value(false));
+
+        userStatsService.reload();
+        mockMvc.perform(get("/api/v1/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(shardedUserRepository.count()))
+                .andExpect(jsonPath("$.inactive").value(1));
+        assertEquals(0, userRepository.count());
+
+        shardedUserRepository.findAll().forEach(user -> userService.deleteUser(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Should answer 501 from the bulk and write-behind endpoints")
+    void shouldRejectBulkAndAsyncEndpoints() throws Exception {
+        mockMvc.perform(post("/api/v1/users/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"users\":[{\"name\":\"Bulk\",\"email\":\"bulk@example.com\",\"phone\":\"1234567890\"}]}"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(post("/api/v1/users/bulk/active").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1],\"active\":false}"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(delete("/api/v1/users").param("ids", "1"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(post("/api/v1/users/async").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Async\",\"email\":\"async@example.com\",\"phone\":\"1234567890\"}"))
+                .andExpect(status().isNotImplemented());
+        assertTrue(shardedUserRepository.findByEmail("bulk@example.com").isEmpty());
+        assertEquals(0, userRepository.count());
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.incubyte.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserSnapshotStore - Snapshot Tests")
+class UserSnapshotStoreTests {
+
+    private static final String SELECT_ALL =
+            "select id, name, email, phone, active, created_at, updated_at from users order by id";
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private DataSource source;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("users.snapshot");
+        source = database();
+        JdbcTemplate jdbc = new JdbcTemplate(source);
+        jdbc.update("insert into users values (1, 'Jane Doe', 'jane@example.com', '555', true, 10, 20)");
+        jdbc.update("insert into users values (7, 'Zoë Ünicode', 'zoe@example.com', '556', false, 11, null)");
+        jdbc.update("insert into users values (120, 'John Roe', 'john@example.com', '557', true, 12, 30)");
+    }
+
+    // Same DDL Hibernate generates for User.
+    private static DataSource database() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:snapshot-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create sequence users_seq start with 1 increment by 50");
+        jdbc.execute("create table users (id bigint primary key, name varchar(255) not null, "
+                + "email varchar(255) not null unique, phone varchar(255) not null, active boolean not null, "
+                + "created_at bigint not null, updated_at bigint)");
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Should restore every row exactly as written")
+    void shouldRoundTrip() {
+        assertEquals(3, new UserSnapshotStore(source, file, false).write());
+
+        DataSource target = database();
+        assertEquals(3, new UserSnapshotStore(target, file, false).restoreIfEmpty());
+
+        List<Map<String, Object>> expected = new JdbcTemplate(source).queryForList(SELECT_ALL);
+        assertEquals(expected, new JdbcTemplate(target).queryForList(SELECT_ALL));
+    }
+
+    @Test
+    @DisplayName("Should move the id sequence past the restored ids")
+    void shouldAdvanceSequence() {
+        new UserSnapshotStore(source, file, false).write();
+        DataSource target = database();
+        new UserSnapshotStore(target, file, false).restore();
+
+        Long next = new JdbcTemplate(target).queryForObject("select next value for users_seq", Long.class);
+        assertTrue(next - 50 >= 120, "pooled ids from " + (next - 49) + " would collide");
+    }
+
+    @Test
+    @DisplayName("Should not restore into a table that already has users")
+    void shouldSkipNonEmptyTable() {
+        UserSnapshotStore store = new UserSnapshotStore(source, file, false);
+        store.write();
+
+        assertEquals(0, store.restoreIfEmpty());
+        assertEquals(3, new JdbcTemplate(source).queryForObject("select count(*) from users", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there is no snapshot file")
+    void shouldSkipMissingFile() {
+        assertEquals(0, new UserSnapshotStore(database(), file, false).restoreIfEmpty());
+    }
+
+    @Test
+    @DisplayName("Should write an empty snapshot for an empty table")
+    void shouldHandleEmptyTable() {
+        assertEquals(0, new UserSnapshotStore(database(), file, false).write());
+        assertEquals(0, new UserSnapshotStore(database(), file, false).restore());
+    }
+
+    @Test
+    @DisplayName("Should write a snapshot on shutdown when enabled")
+    void shouldWriteOnShutdown() {
+        new UserSnapshotStore(source, file, true).destroy();
+
+        assertTrue(Files.exists(file));
+        assertEquals(3, new UserSnapshotStore(database(), file, false).restore());
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot")
+    void shouldRejectForeignFile() throws Exception {
+        Files.write(file, new byte[64]);
+
+        assertThrows(IllegalStateException.class, () -> new UserSnapshotStore(database(), file, false).restore());
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated snapshot and leave the table empty")
+    void shouldRejectTruncatedSnapshot() throws Exception {
+        new UserSnapshotStore(source, file, false).write();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        DataSource target = database();
+        assertThrows(IllegalStateException.class, () -> new UserSnapshotStore(target, file, false).restore());
+        assertEquals(0, new JdbcTemplate(target).queryForObject("select count(*) from users", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should roll back every batch of a large restore that fails near the end")
+    void shouldRollBackLargeFailedRestore() throws Exception {
+        new JdbcTemplate(source).update("insert into users select x, 'User ' || x, 'user' || x || '@example.com', "
+                + "'555', true, 1, null from system_range(1000, 80999)");
+        new UserSnapshotStore(source, file, false).write();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        DataSource target = database();
+        assertThrows(IllegalStateException.class, () -> new UserSnapshotStore(target, file, false).restore());
+
+        JdbcTemplate jdbc = new JdbcTemplate(target);
+        assertEquals(0, jdbc.queryForObject("select count(*) from users", Long.class));
+        assertTrue(jdbc.queryForObject("select next value for users_seq", Long.class) > 80999);
+    }
+}
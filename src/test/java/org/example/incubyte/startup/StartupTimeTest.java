@@ -0,0 +1,204 @@
+package org.example.incubyte.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the packaged application as a separate process, once per built variant, and records
+ * the time from launch until {@code GET /api/v1/users/1} first answers 200, and the process
+ * RSS at that moment. Excluded from the default build; package the variants with
+ * {@code mvn -Pfast-startup -DskipTests package} (and {@code mvn -Pnative native:compile})
+ * and run with {@code mvn -Pstartup-benchmark test}.
+ * <p>
+ * Every run opens the same pre-built file database holding user 1, with schema generation
+ * off, so all variants do the same work before their first response.
+ */
+@Tag("startup")
+@DisplayName("Application - Startup Time Benchmark")
+class StartupTimeTest {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path STARTUP = TARGET.resolve("startup");
+    private static final Path WORK = TARGET.resolve("startup-benchmark");
+    /** Spring Boot's native profile names the executable after the artifactId. */
+    private static final Path NATIVE = TARGET.resolve("user-management-api");
+
+    private final int runs = Integer.getInteger("startup.runs", 5);
+    private final Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeout-seconds", 60));
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(250)).build();
+
+    private record Variant(String name, List<String> command) {
+    }
+
+    private record Sample(long millis, long rssKilobytes) {
+    }
+
+    @Test
+    @DisplayName("Should report time to first GET and RSS for every built variant")
+    void shouldReportStartupPerVariant() throws Exception {
+        assumeTrue(Files.isReadable(Path.of("/proc/self/status")), "RSS is read from /proc");
+        List<Variant> variants = variants();
+        assumeFalse(variants.isEmpty(), "No packaged variants; run mvn -Pfast-startup -DskipTests package first");
+
+        Files.createDirectories(WORK);
+        Path database = createDatabase();
+        Map<String, List<Sample>> results = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            List<Sample> samples = new ArrayList<>(runs);
+            for (int run = 0; run < runs; run++) {
+                samples.add(measure(variant, database));
+            }
+            results.put(variant.name(), samples);
+        }
+        printReport(results);
+    }
+
+    private List<Variant> variants() throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<Variant> variants = new ArrayList<>();
+        Path fatJar = find(TARGET, "*.jar");
+        if (fatJar != null) {
+            variants.add(new Variant("jar", List.of(java, "-jar", fatJar.toString())));
+        }
+        Path thinJar = find(STARTUP, "*-startup.jar");
+        if (thinJar != null) {
+            variants.add(new Variant("thin-jar", List.of(java, "-jar", thinJar.toString())));
+            variants.add(new Variant("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", thinJar.toString())));
+            Path archive = STARTUP.resolve("application.jsa");
+            if (Files.exists(archive)) {
+                variants.add(new Variant("aot+cds", List.of(java, "-XX:SharedArchiveFile=" + archive,
+                        "-Dspring.aot.enabled=true", "-jar", thinJar.toString())));
+            }
+        }
+        if (Files.isExecutable(NATIVE) && Files.isRegularFile(NATIVE)) {
+            variants.add(new Variant("native", List.of(NATIVE.toString())));
+        }
+        return variants;
+    }
+
+    private static Path find(Path dir, String glob) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return null;
+        }
+        try (DirectoryStream<Path> matches = Files.newDirectoryStream(dir, glob)) {
+            for (Path match : matches) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /** Same DDL Hibernate generates for User, plus the one user every run fetches. */
+    private static Path createDatabase() throws SQLException, IOException {
+        Path base = WORK.resolve("users").toAbsolutePath();
+        Files.deleteIfExists(Path.of(base + ".mv.db"));
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + base, "sa", "sa");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create sequence users_seq start with 51 increment by 50");
+            statement.execute("create table users (id bigint primary key, name varchar(255) not null, "
+                    + "email varchar(255) not null unique, phone varchar(255) not null, active boolean not null, "
+                    + "created_at bigint not null, updated_at bigint)");
+            statement.execute("create index idx_users_active_id on users (active, id)");
+            statement.execute("insert into users values (1, 'Startup Probe', 'probe@example.com', '5550000000', true, 0, 0)");
+            statement.execute("shutdown");
+        }
+        return base;
+    }
+
+    private Sample measure(Variant variant, Path database) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(variant.command());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + database);
+        command.add("--spring.jpa.hibernate.ddl-auto=none");
+        command.add("--logging.level.root=WARN");
+        Path log = WORK.resolve(variant.name() + ".log");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users/1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (true) {
+                assertTrue(process.isAlive(), variant.name() + " exited with " + exitValue(process) + ", see " + log);
+                assertTrue(System.nanoTime() - started < timeout.toNanos(),
+                        variant.name() + " did not answer within " + timeout + ", see " + log);
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException notListeningYet) {
+                    // retry until the server accepts connections
+                }
+                Thread.sleep(5);
+            }
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            return new Sample(millis, rssKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Integer exitValue(Process process) {
+        return process.isAlive() ? null : process.exitValue();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long rssKilobytes(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        throw new IllegalStateException("No VmRSS for process " + pid);
+    }
+
+    private void printReport(Map<String, List<Sample>> results) {
+        System.out.printf("%nStartup to first GET /api/v1/users/{id} (%d runs per variant)%n", runs);
+        System.out.printf("%-10s %12s %12s %14s%n", "variant", "median ms", "min ms", "median RSS MB");
+        results.forEach((name, samples) -> {
+            long[] millis = samples.stream().mapToLong(Sample::millis).sorted().toArray();
+            long[] rss = samples.stream().mapToLong(Sample::rssKilobytes).sorted().toArray();
+            System.out.printf("%-10s %12d %12d %14.1f%n",
+                    name, millis[millis.length / 2], millis[0], rss[rss.length / 2] / 1024.0);
+        });
+    }
+}